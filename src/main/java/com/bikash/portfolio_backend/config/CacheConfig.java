@@ -0,0 +1,43 @@
+package com.bikash.portfolio_backend.config;
+
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. The Caffeine cache manager itself is
+ * auto-configured from the {@code spring.cache.*} properties; the names below
+ * are also listed in {@code spring.cache.cache-names} so their hit/miss stats
+ * are bound to the actuator metrics at startup.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROJECT_PAGES = "projectPages";
+    public static final String PROJECT_BY_SLUG = "projectBySlug";
+    public static final String FEATURED_PROJECTS = "featuredProjects";
+
+    public static final String PROJECT_KEY_GENERATOR = "projectKeyGenerator";
+
+    /**
+     * Keys an entry by the projects content version, method name and every
+     * argument, so different query methods can share one cache without
+     * colliding on equal arguments. The key is taken before the method runs, so
+     * a read that started before a write stores its result under the old
+     * version, where no read started after the write will look.
+     */
+    @Bean(PROJECT_KEY_GENERATOR)
+    public KeyGenerator projectKeyGenerator(ContentVersionService contentVersionService) {
+        return (target, method, params) -> {
+            Object[] parts = new Object[params.length + 2];
+            parts[0] = contentVersionService.currentVersion(ContentVersionService.Content.PROJECTS);
+            parts[1] = method.getName();
+            System.arraycopy(params, 0, parts, 2, params.length);
+            return new SimpleKey(parts);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.bikash.portfolio_backend.config;
+
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Locale;
+
+/**
+ * Answers anonymous GETs for one content collection with a strong ETag derived
+ * from its {@link ContentVersionService} version, returning 304 before the
+ * controller runs when the client's If-None-Match still matches.
+ * Authenticated requests are left alone so admins always see fresh data, and
+ * cacheable responses carry {@code Vary: Authorization} so shared caches never
+ * serve an anonymous body to them. Cache-Control is only known to be safe once
+ * the handler has succeeded, so it is left for {@link PublicCacheControlAdvice}
+ * to add to 2xx responses.
+ */
+@RequiredArgsConstructor
+public class ContentVersionInterceptor implements HandlerInterceptor {
+
+    static final String CACHE_CONTROL_ATTRIBUTE = ContentVersionInterceptor.class.getName() + ".cacheControl";
+
+    private final ContentVersionService contentVersionService;
+    private final ContentVersionService.Content content;
+    private final CacheControl cacheControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) || isAuthenticated()) {
+            return true;
+        }
+
+        String etag = "\"" + content.name().toLowerCase(Locale.ROOT) + "-" + contentVersionService.currentVersion(content) + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+            return false;
+        }
+        request.setAttribute(CACHE_CONTROL_ATTRIBUTE, cacheControl);
+        return true;
+    }
+
+    private boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+}
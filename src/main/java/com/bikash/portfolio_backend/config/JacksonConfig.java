@@ -0,0 +1,19 @@
+package com.bikash.portfolio_backend.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * DTOs that support sparse fieldsets carry a {@code @JsonFilter}; without a
+     * filter registered for the request they serialize every property.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
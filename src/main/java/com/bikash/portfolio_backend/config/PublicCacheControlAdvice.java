@@ -0,0 +1,51 @@
+package com.bikash.portfolio_backend.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds the Cache-Control chosen by {@link ContentVersionInterceptor} once the
+ * response turns out to be a 2xx. Error bodies keep Spring Security's
+ * {@code no-store} default instead of being cached publicly.
+ */
+@ControllerAdvice
+public class PublicCacheControlAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Object cacheControl = servletRequest.getServletRequest().getAttribute(ContentVersionInterceptor.CACHE_CONTROL_ATTRIBUTE);
+        int status = servletResponse.getServletResponse().getStatus();
+        if (cacheControl instanceof CacheControl control && status >= 200 && status < 300) {
+            HttpHeaders headers = response.getHeaders();
+            headers.setCacheControl(control);
+            List<String> vary = new ArrayList<>(headers.getVary());
+            if (!vary.contains(HttpHeaders.AUTHORIZATION)) {
+                vary.add(HttpHeaders.AUTHORIZATION);
+                headers.setVary(vary);
+            }
+        }
+        return body;
+    }
+}
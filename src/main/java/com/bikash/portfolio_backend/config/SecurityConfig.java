@@ -70,7 +70,8 @@ public class SecurityConfig {
                 
                 .requestMatchers("GET", "/projects", "/projects/**").permitAll()
                 .requestMatchers("GET", "/skills", "/skills/**").permitAll()
-                .requestMatchers("GET", "/status/current").permitAll()
+                .requestMatchers("GET", "/search/**").permitAll()
+                .requestMatchers("GET", "/status/current", "/status/stream").permitAll()
                 
 
                 .requestMatchers("POST", "/contact").permitAll()
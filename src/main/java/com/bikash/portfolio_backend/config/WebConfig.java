@@ -0,0 +1,38 @@
+package com.bikash.portfolio_backend.config;
+
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ContentVersionService contentVersionService;
+
+    @Value("${app.http-cache.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    @Value("${app.http-cache.shared-max-age-seconds:300}")
+    private long sharedMaxAgeSeconds;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .sMaxAge(sharedMaxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic();
+
+        registry.addInterceptor(new ContentVersionInterceptor(contentVersionService, ContentVersionService.Content.PROJECTS, cacheControl))
+                .addPathPatterns("/projects", "/projects/**");
+        registry.addInterceptor(new ContentVersionInterceptor(contentVersionService, ContentVersionService.Content.SKILLS, cacheControl))
+                .addPathPatterns("/skills", "/skills/**");
+        registry.addInterceptor(new ContentVersionInterceptor(contentVersionService, ContentVersionService.Content.PROFILE, cacheControl))
+                .addPathPatterns("/auth/profile");
+    }
+}
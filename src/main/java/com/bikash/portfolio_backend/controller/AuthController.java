@@ -6,8 +6,12 @@ import com.bikash.portfolio_backend.dto.auth.RegisterRequest;
 import com.bikash.portfolio_backend.dto.auth.UpdatePersonalInfoRequest;
 import com.bikash.portfolio_backend.dto.auth.UserDto;
 import com.bikash.portfolio_backend.service.AuthenticationService;
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import com.bikash.portfolio_backend.service.ResponseSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +27,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthenticationService authenticationService;
+    private final ResponseSnapshotService responseSnapshotService;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user", description = "Creates a new user account with email verification")
@@ -56,14 +61,16 @@ public class AuthController {
 
     @GetMapping("/profile")
     @Operation(summary = "Get user profile", description = "Retrieves the current user's profile information or admin profile for public access")
-    public ResponseEntity<UserDto> getProfile(Authentication authentication) {
-        UserDto user;
+    public ResponseEntity<?> getProfile(Authentication authentication,
+                                        HttpServletRequest httpRequest,
+                                        HttpServletResponse httpResponse) {
         if (authentication != null && authentication.isAuthenticated()) {
-            user = authenticationService.getProfile(authentication.getName());
-        } else {
-            user = authenticationService.getAdminProfile();
+            UserDto user = authenticationService.getProfile(authentication.getName());
+            return ResponseEntity.ok(user);
         }
-        return ResponseEntity.ok(user);
+        return responseSnapshotService
+                .get("auth/profile", ContentVersionService.Content.PROFILE, authenticationService::getAdminProfile)
+                .toResponse(httpRequest, httpResponse);
     }
 
     @PutMapping("/profile")
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -27,7 +28,8 @@ public class ContactController {
     private final ContactService contactService;
 
     @PostMapping
-    @Operation(summary = "Submit contact form", description = "Submits a new contact form message")
+    @Operation(summary = "Submit contact form", description = "Accepts a new contact form message for storage; "
+            + "responds 503 with Retry-After when the submission queue is full")
     public ResponseEntity<ContactMessageDto> submitContactForm(
             @Valid @RequestBody ContactFormRequest request,
             HttpServletRequest httpRequest) {
@@ -40,7 +42,7 @@ public class ContactController {
         request.setUserAgent(userAgent);
         
         ContactMessageDto message = contactService.submitContactForm(request);
-        return ResponseEntity.ok(message);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(message);
     }
 
     @GetMapping
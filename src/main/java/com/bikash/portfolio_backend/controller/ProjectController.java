@@ -1,20 +1,36 @@
 package com.bikash.portfolio_backend.controller;
 
+import com.bikash.portfolio_backend.dto.FieldSelection;
 import com.bikash.portfolio_backend.dto.project.CreateProjectRequest;
+import com.bikash.portfolio_backend.dto.project.ProjectCursorResponse;
 import com.bikash.portfolio_backend.dto.project.ProjectDto;
+import com.bikash.portfolio_backend.dto.project.ProjectFacetsDto;
+import com.bikash.portfolio_backend.dto.project.ProjectImportResponse;
 import com.bikash.portfolio_backend.dto.project.ProjectResponse;
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import com.bikash.portfolio_backend.service.ProjectFacetService;
 import com.bikash.portfolio_backend.service.ProjectService;
+import com.bikash.portfolio_backend.service.RelatedProjectsIndex;
+import com.bikash.portfolio_backend.service.ResponseSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/projects")
@@ -22,19 +38,34 @@ import java.util.Map;
 @Tag(name = "Projects", description = "Project management APIs")
 public class ProjectController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ProjectService projectService;
+    private final ResponseSnapshotService responseSnapshotService;
+    private final ProjectFacetService projectFacetService;
+    private final RelatedProjectsIndex relatedProjectsIndex;
 
     @GetMapping
-    @Operation(summary = "Get all projects", description = "Retrieves paginated list of projects with optional filtering")
-    public ResponseEntity<ProjectResponse> getAllProjects(
+    @Operation(summary = "Get all projects", description = "Retrieves paginated list of projects with optional filtering. "
+            + "Passing 'after' switches to cursor pagination, which skips no documents and counts only on request")
+    public ResponseEntity<MappingJacksonValue> getAllProjects(
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit,
             @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
             @Parameter(description = "Filter by featured status") @RequestParam(required = false) Boolean featured,
-            @Parameter(description = "Search term") @RequestParam(required = false) String search) {
-        
-        ProjectResponse response = projectService.getAllProjects(page, limit, category, featured, search);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "Search term") @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor from a previous response's nextCursor; empty for the first page") @RequestParam(required = false) String after,
+            @Parameter(description = "Include the total count in cursor mode") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Comma separated project fields to return") @RequestParam(required = false) String fields) {
+
+        Set<String> selectedFields = FieldSelection.parse(fields, ProjectDto.class);
+        if (after != null) {
+            ProjectCursorResponse response = projectService.getProjectsAfter(after, limit, category, featured, search, includeTotal, selectedFields);
+            return ResponseEntity.ok(FieldSelection.apply(response, FieldSelection.PROJECT_FILTER, selectedFields));
+        }
+
+        ProjectResponse response = projectService.getAllProjects(page, limit, category, featured, search, selectedFields);
+        return ResponseEntity.ok(FieldSelection.apply(response, FieldSelection.PROJECT_FILTER, selectedFields));
     }
 
     @GetMapping("/{id}")
@@ -51,6 +82,12 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("/{slug}/related")
+    @Operation(summary = "Get related projects", description = "Retrieves projects most similar by technologies and category")
+    public ResponseEntity<List<ProjectDto>> getRelatedProjects(@PathVariable String slug) {
+        return ResponseEntity.ok(relatedProjectsIndex.getRelated(slug));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Create project", description = "Creates a new project (Admin only)")
@@ -59,6 +96,26 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import projects", description = "Creates projects from an NDJSON body, one project per line, "
+            + "parsed incrementally and inserted in batches (Admin only)")
+    public ResponseEntity<ProjectImportResponse> importProjects(HttpServletRequest httpRequest) throws IOException {
+        ProjectImportResponse response = projectService.importProjects(httpRequest.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export projects", description = "Streams all projects as NDJSON, one project per line (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        StreamingResponseBody body = projectService::exportProjects;
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\"")
+                .body(body);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Update project", description = "Updates an existing project (Admin only)")
@@ -79,9 +136,25 @@ public class ProjectController {
 
     @GetMapping("/featured")
     @Operation(summary = "Get featured projects", description = "Retrieves all featured projects")
-    public ResponseEntity<List<ProjectDto>> getFeaturedProjects() {
-        List<ProjectDto> projects = projectService.getFeaturedProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<?> getFeaturedProjects(
+            @Parameter(description = "Comma separated project fields to return") @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        Set<String> selectedFields = FieldSelection.parse(fields, ProjectDto.class);
+        if (selectedFields == null) {
+            return responseSnapshotService
+                    .get("projects/featured", ContentVersionService.Content.PROJECTS, () -> projectService.getFeaturedProjects(null))
+                    .toResponse(httpRequest, httpResponse);
+        }
+
+        List<ProjectDto> projects = projectService.getFeaturedProjects(selectedFields);
+        return ResponseEntity.ok(FieldSelection.apply(projects, FieldSelection.PROJECT_FILTER, selectedFields));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get project facets", description = "Retrieves project counts per category and technology")
+    public ResponseEntity<ProjectFacetsDto> getFacets() {
+        return ResponseEntity.ok(projectFacetService.getFacets());
     }
 
     @GetMapping("/category/{category}")
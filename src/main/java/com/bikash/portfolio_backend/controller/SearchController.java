@@ -0,0 +1,39 @@
+package com.bikash.portfolio_backend.controller;
+
+import com.bikash.portfolio_backend.dto.search.SuggestResponse;
+import com.bikash.portfolio_backend.dto.search.SuggestionDto;
+import com.bikash.portfolio_backend.service.SuggestionIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Search-as-you-type APIs")
+public class SearchController {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest as you type", description = "Suggests project titles, technologies and skills "
+            + "with a word starting with the query, answered from memory")
+    public ResponseEntity<SuggestResponse> suggest(
+            @Parameter(description = "Text typed so far") @RequestParam(name = "q") String query,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "8") int limit) {
+        List<SuggestionDto> suggestions = suggestionIndex.suggest(query, limit);
+        return ResponseEntity.ok(SuggestResponse.builder()
+                .query(query)
+                .suggestions(suggestions)
+                .total(suggestions.size())
+                .build());
+    }
+}
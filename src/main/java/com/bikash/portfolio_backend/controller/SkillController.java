@@ -1,21 +1,30 @@
 package com.bikash.portfolio_backend.controller;
 
+import com.bikash.portfolio_backend.dto.FieldSelection;
+import com.bikash.portfolio_backend.dto.skill.BulkSkillResponse;
 import com.bikash.portfolio_backend.dto.skill.CreateSkillRequest;
 import com.bikash.portfolio_backend.dto.skill.SkillDto;
 import com.bikash.portfolio_backend.dto.skill.SkillResponse;
 import com.bikash.portfolio_backend.dto.skill.UpdateSkillRequest;
+import com.bikash.portfolio_backend.service.ContentVersionService;
+import com.bikash.portfolio_backend.service.ResponseSnapshotService;
 import com.bikash.portfolio_backend.service.SkillService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/skills")
@@ -24,13 +33,32 @@ import java.util.Map;
 public class SkillController {
 
     private final SkillService skillService;
+    private final ResponseSnapshotService responseSnapshotService;
 
     @GetMapping
     @Operation(summary = "Get all skills", description = "Retrieves all skills ordered by category and name")
-    public ResponseEntity<SkillResponse> getAllSkills() {
+    public ResponseEntity<?> getAllSkills(
+            @Parameter(description = "Comma separated skill fields to return") @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        Set<String> selectedFields = FieldSelection.parse(fields, SkillDto.class);
+        if (selectedFields == null) {
+            return responseSnapshotService
+                    .get("skills", ContentVersionService.Content.SKILLS,
+                            () -> SkillResponse.success(skillService.getAllSkills(), "Skills retrieved successfully"))
+                    .toResponse(httpRequest, httpResponse);
+        }
         List<SkillDto> skills = skillService.getAllSkills();
         SkillResponse response = SkillResponse.success(skills, "Skills retrieved successfully");
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(FieldSelection.apply(response, FieldSelection.SKILL_FILTER, selectedFields));
+    }
+
+    @GetMapping("/grouped")
+    @Operation(summary = "Get skills grouped", description = "Retrieves skills grouped by category, then by level")
+    public ResponseEntity<byte[]> getGroupedSkills(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        return responseSnapshotService
+                .get("skills/grouped", ContentVersionService.Content.SKILLS, skillService::getGroupedSkills)
+                .toResponse(httpRequest, httpResponse);
     }
 
     @GetMapping("/category/{category}")
@@ -83,6 +111,15 @@ public class SkillController {
         return ResponseEntity.status(HttpStatus.CREATED).body(skill);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk create or update skills", description = "Creates new skills and updates existing ones "
+            + "matched by name ignoring case, in one bulk write, reporting a result per item (admin only)")
+    public ResponseEntity<BulkSkillResponse> bulkUpsertSkills(@RequestBody List<CreateSkillRequest> requests) {
+        BulkSkillResponse response = skillService.bulkUpsertSkills(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Update skill", description = "Updates an existing skill (admin only)")
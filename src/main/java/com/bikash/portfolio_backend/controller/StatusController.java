@@ -5,13 +5,17 @@ import com.bikash.portfolio_backend.dto.status.StatusDto;
 import com.bikash.portfolio_backend.dto.status.UpdateStatusRequest;
 import com.bikash.portfolio_backend.exception.ErrorResponse;
 import com.bikash.portfolio_backend.service.StatusService;
+import com.bikash.portfolio_backend.service.StatusStreamHub;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,6 +27,7 @@ import java.util.Optional;
 public class StatusController {
 
     private final StatusService statusService;
+    private final StatusStreamHub statusStreamHub;
 
     @GetMapping("/current")
     public ResponseEntity<?> getCurrentStatus() {
@@ -40,6 +45,12 @@ public class StatusController {
     }
 
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<StatusDto>> streamStatus() {
+        return statusStreamHub.stream();
+    }
+
+
     @GetMapping("/me")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getMyStatus(Authentication authentication) {
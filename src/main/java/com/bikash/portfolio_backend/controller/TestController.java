@@ -42,9 +42,9 @@ public class TestController {
                         .body(Map.of("error", "Invalid test type. Use 'verification', 'reset', or 'contact'"));
             }
             
-            log.info("Test email sent successfully to: {}", toEmail);
+            log.info("Test email queued successfully for: {}", toEmail);
             return ResponseEntity.ok(Map.of(
-                "message", "Test email sent successfully",
+                "message", "Test email queued successfully",
                 "email", toEmail,
                 "type", testType
             ));
@@ -0,0 +1,65 @@
+package com.bikash.portfolio_backend.dto;
+
+import com.bikash.portfolio_backend.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset support for the {@code fields} query parameter. Selected names
+ * are validated against the DTO's properties, pushed down as a Mongo projection
+ * by the services, and applied to serialization through the DTO's {@code @JsonFilter}.
+ */
+public final class FieldSelection {
+
+    public static final String PROJECT_FILTER = "projectFields";
+    public static final String SKILL_FILTER = "skillFields";
+
+    private FieldSelection() {
+    }
+
+    /**
+     * Parses a comma separated field list. Returns null when no selection was
+     * requested, meaning every field.
+     */
+    public static Set<String> parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> allowed = Arrays.stream(dtoType.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toSet());
+
+        Set<String> selected = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BadRequestException("Unknown field '" + name + "', allowed fields are " + new TreeSet<>(allowed));
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? null : Collections.unmodifiableSet(selected);
+    }
+
+    public static MappingJacksonValue apply(Object body, String filterId, Set<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields != null) {
+            value.setFilters(new SimpleFilterProvider()
+                    .setFailOnUnknownId(false)
+                    .addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+        return value;
+    }
+}
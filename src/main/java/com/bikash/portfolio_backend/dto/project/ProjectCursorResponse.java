@@ -0,0 +1,21 @@
+package com.bikash.portfolio_backend.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectCursorResponse {
+
+    private List<ProjectDto> projects;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+    private Long total;
+}
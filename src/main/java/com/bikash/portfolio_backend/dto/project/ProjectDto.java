@@ -1,6 +1,8 @@
 package com.bikash.portfolio_backend.dto.project;
 
+import com.bikash.portfolio_backend.dto.FieldSelection;
 import com.bikash.portfolio_backend.entity.Project;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +16,7 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonFilter(FieldSelection.PROJECT_FILTER)
 public class ProjectDto {
 
     private String id;
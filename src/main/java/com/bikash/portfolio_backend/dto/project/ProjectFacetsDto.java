@@ -0,0 +1,27 @@
+package com.bikash.portfolio_backend.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectFacetsDto {
+
+    private List<FacetCount> categories;
+    private List<FacetCount> technologies;
+    private long total;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bikash.portfolio_backend.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectImportResponse {
+
+    private int imported;
+    private int failed;
+    private List<ImportError> errors;
+    private String message;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportError {
+
+        /** 1-based position of the record in the NDJSON body. */
+        private int record;
+        private String slug;
+        private String error;
+    }
+}
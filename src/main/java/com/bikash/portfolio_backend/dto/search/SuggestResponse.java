@@ -0,0 +1,19 @@
+package com.bikash.portfolio_backend.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestResponse {
+
+    private String query;
+    private List<SuggestionDto> suggestions;
+    private int total;
+}
@@ -0,0 +1,24 @@
+package com.bikash.portfolio_backend.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    public enum Type {
+        PROJECT,
+        TECHNOLOGY,
+        SKILL
+    }
+
+    private String text;
+    private Type type;
+    /** Project slug for {@code PROJECT} suggestions, null otherwise. */
+    private String slug;
+}
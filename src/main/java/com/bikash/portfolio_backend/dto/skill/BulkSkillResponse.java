@@ -0,0 +1,41 @@
+package com.bikash.portfolio_backend.dto.skill;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSkillResponse {
+
+    private List<ItemResult> results;
+    private int created;
+    private int updated;
+    private int failed;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        /** Position of the item in the request body. */
+        private int index;
+        private String name;
+        private Status status;
+        private String id;
+        private String error;
+    }
+}
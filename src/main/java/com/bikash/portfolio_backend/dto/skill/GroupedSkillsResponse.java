@@ -0,0 +1,22 @@
+package com.bikash.portfolio_backend.dto.skill;
+
+import com.bikash.portfolio_backend.entity.Skill;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupedSkillsResponse {
+
+    /** Category, then level from expert down, then skills ordered by name. */
+    private Map<String, Map<Skill.SkillLevel, List<SkillDto>>> groups;
+    private String message;
+    private int total;
+}
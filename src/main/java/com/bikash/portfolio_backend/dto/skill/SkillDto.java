@@ -1,6 +1,8 @@
 package com.bikash.portfolio_backend.dto.skill;
 
+import com.bikash.portfolio_backend.dto.FieldSelection;
 import com.bikash.portfolio_backend.entity.Skill;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.SKILL_FILTER)
 public class SkillDto {
 
     private String id;
@@ -0,0 +1,71 @@
+package com.bikash.portfolio_backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An email waiting to be sent. The payload and items hold the template
+ * variables, not the rendered mail, and are removed once the mail has been sent.
+ * Sent and dead messages are deleted by TTL indexes on {@code sentAt} and
+ * {@code deadAt}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "email_outbox")
+public class EmailOutboxMessage {
+
+    @Id
+    private String id;
+
+    private Type type;
+
+    private String recipient;
+
+    private Map<String, String> payload;
+
+    /** Template variables per entry of a digest mail. */
+    private List<Map<String, String>> items;
+
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    private LocalDateTime nextAttemptAt;
+
+    /** While {@code SENDING}, the time after which another worker may reclaim the message. */
+    private LocalDateTime lockedUntil;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime deadAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public enum Type {
+        EMAIL_VERIFICATION, PASSWORD_RESET, CONTACT_NOTIFICATION, CONTACT_DIGEST
+    }
+
+    public enum Status {
+        PENDING, SENDING, SENT, DEAD
+    }
+}
@@ -0,0 +1,39 @@
+package com.bikash.portfolio_backend.event;
+
+import com.bikash.portfolio_backend.entity.Project;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published by {@code ProjectService} after a project write has been persisted.
+ * {@code before} is null for creates, {@code after} is null for deletes, and both
+ * are null when the whole collection changed and listeners should reload.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProjectChangedEvent {
+
+    Project before;
+    Project after;
+
+    public static ProjectChangedEvent created(Project project) {
+        return new ProjectChangedEvent(null, project);
+    }
+
+    public static ProjectChangedEvent updated(Project before, Project after) {
+        return new ProjectChangedEvent(before, after);
+    }
+
+    public static ProjectChangedEvent deleted(Project project) {
+        return new ProjectChangedEvent(project, null);
+    }
+
+    public static ProjectChangedEvent reloaded() {
+        return new ProjectChangedEvent(null, null);
+    }
+
+    public boolean isReload() {
+        return before == null && after == null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bikash.portfolio_backend.event;
+
+import com.bikash.portfolio_backend.entity.Skill;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published by {@code SkillService} after a skill write has been persisted.
+ * {@code before} is null for creates, {@code after} is null for deletes, and both
+ * are null when the whole collection changed and listeners should reload.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SkillChangedEvent {
+
+    Skill before;
+    Skill after;
+
+    public static SkillChangedEvent created(Skill skill) {
+        return new SkillChangedEvent(null, skill);
+    }
+
+    public static SkillChangedEvent updated(Skill before, Skill after) {
+        return new SkillChangedEvent(before, after);
+    }
+
+    public static SkillChangedEvent deleted(Skill skill) {
+        return new SkillChangedEvent(skill, null);
+    }
+
+    public static SkillChangedEvent reloaded() {
+        return new SkillChangedEvent(null, null);
+    }
+
+    public boolean isReload() {
+        return before == null && after == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bikash.portfolio_backend.event;
+
+import lombok.Value;
+
+/**
+ * Published after the set of active statuses may have changed. Listeners read
+ * the current status again rather than relying on a payload, since an update or
+ * expiry can make a different status, or none, the current one.
+ */
+@Value
+public class StatusChangedEvent {
+
+    public enum Reason {
+        SET,
+        UPDATED,
+        CLEARED,
+        EXPIRED
+    }
+
+    Reason reason;
+}
@@ -0,0 +1,8 @@
+package com.bikash.portfolio_backend.exception;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
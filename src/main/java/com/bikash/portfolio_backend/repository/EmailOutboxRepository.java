@@ -0,0 +1,11 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailOutboxRepository extends MongoRepository<EmailOutboxMessage, String>, EmailOutboxRepositoryCustom {
+
+    long countByStatus(EmailOutboxMessage.Status status);
+}
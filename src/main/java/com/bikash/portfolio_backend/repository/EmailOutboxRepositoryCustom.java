@@ -0,0 +1,35 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Claim and completion updates for the email outbox. A message is claimed with
+ * {@code findAndModify}, so two dispatchers never send the same message while
+ * its lease holds; a claim whose lease has run out, because its worker died,
+ * can be claimed again.
+ */
+public interface EmailOutboxRepositoryCustom {
+
+    /**
+     * Claims up to {@code limit} due messages, oldest first, marking them
+     * {@code SENDING} under a lease and counting the attempt.
+     */
+    List<EmailOutboxMessage> claimDue(int limit, Duration lease);
+
+    void markSent(String id);
+
+    /** Returns a failed message to {@code PENDING} until {@code nextAttemptAt}. */
+    void reschedule(String id, String error, LocalDateTime nextAttemptAt);
+
+    void markDead(String id, String error);
+
+    /**
+     * Creates the claim index and the TTL indexes that delete sent and dead
+     * messages once they are older than their retention.
+     */
+    void ensureIndexes(Duration sentRetention, Duration deadRetention);
+}
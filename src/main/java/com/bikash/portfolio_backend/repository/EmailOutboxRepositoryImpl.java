@@ -0,0 +1,110 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryImpl implements EmailOutboxRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<EmailOutboxMessage> claimDue(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(EmailOutboxMessage.Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(EmailOutboxMessage.Status.SENDING).and("lockedUntil").lte(now)))
+                .with(Sort.by("nextAttemptAt"));
+        Update update = new Update()
+                .set("status", EmailOutboxMessage.Status.SENDING)
+                .set("lockedUntil", now.plus(lease))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
+
+        List<EmailOutboxMessage> claimed = new ArrayList<>(limit);
+        while (claimed.size() < limit) {
+            EmailOutboxMessage message = mongoTemplate.findAndModify(query, update, options, EmailOutboxMessage.class);
+            if (message == null) {
+                break;
+            }
+            claimed.add(message);
+        }
+        return claimed;
+    }
+
+    @Override
+    public void markSent(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        complete(id, new Update()
+                .set("status", EmailOutboxMessage.Status.SENT)
+                .set("sentAt", now)
+                .set("updatedAt", now)
+                .unset("payload")
+                .unset("items")
+                .unset("lockedUntil")
+                .unset("lastError"));
+    }
+
+    @Override
+    public void reschedule(String id, String error, LocalDateTime nextAttemptAt) {
+        complete(id, new Update()
+                .set("status", EmailOutboxMessage.Status.PENDING)
+                .set("nextAttemptAt", nextAttemptAt)
+                .set("lastError", error)
+                .set("updatedAt", LocalDateTime.now())
+                .unset("lockedUntil"));
+    }
+
+    @Override
+    public void markDead(String id, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        complete(id, new Update()
+                .set("status", EmailOutboxMessage.Status.DEAD)
+                .set("deadAt", now)
+                .set("lastError", error)
+                .set("updatedAt", now)
+                .unset("lockedUntil"));
+    }
+
+    @Override
+    public void ensureIndexes(Duration sentRetention, Duration deadRetention) {
+        IndexOperations indexOps = mongoTemplate.indexOps(EmailOutboxMessage.class);
+        indexOps.ensureIndex(new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("nextAttemptAt", Sort.Direction.ASC)
+                .named("status_next_attempt"));
+        ensureTtlIndex(indexOps, "sentAt", "sent_at_ttl", sentRetention);
+        ensureTtlIndex(indexOps, "deadAt", "dead_at_ttl", deadRetention);
+    }
+
+    /** An existing TTL index with another retention is dropped first, since Mongo will not change it in place. */
+    private static void ensureTtlIndex(IndexOperations indexOps, String field, String name, Duration retention) {
+        boolean changed = indexOps.getIndexInfo().stream()
+                .anyMatch(info -> info.getName().equals(name) && !info.getExpireAfter().equals(Optional.of(retention)));
+        if (changed) {
+            indexOps.dropIndex(name);
+        }
+        indexOps.ensureIndex(new Index().on(field, Sort.Direction.ASC).expire(retention).named(name));
+    }
+
+    /** Only a message still claimed is completed, so a reclaimed message is not overwritten. */
+    private void complete(String id, Update update) {
+        Query query = new Query(Criteria.where("_id").is(id).and("status").is(EmailOutboxMessage.Status.SENDING));
+        mongoTemplate.updateFirst(query, update, EmailOutboxMessage.class);
+    }
+}
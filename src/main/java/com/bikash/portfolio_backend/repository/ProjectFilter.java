@@ -0,0 +1,19 @@
+package com.bikash.portfolio_backend.repository;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collection;
+
+/**
+ * Optional filters for project list queries; null fields are not applied.
+ * {@code ids} restricts results to the given project ids, e.g. search hits.
+ */
+@Value
+@Builder
+public class ProjectFilter {
+
+    String category;
+    Boolean featured;
+    Collection<String> ids;
+}
@@ -0,0 +1,71 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Dynamically composed project list queries. List methods load the properties
+ * named in {@code fields}, or the full document when it is null; pass
+ * {@link #LIST_VIEW_FIELDS} for the list view of a project.
+ */
+public interface ProjectRepositoryCustom {
+
+    /** Every stored property except {@code longDescription} and {@code features}. */
+    Set<String> LIST_VIEW_FIELDS = Set.of("title", "description", "image", "technologies", "githubUrl", "liveUrl",
+            "slug", "category", "featured", "startDate", "endDate", "createdAt", "updatedAt");
+
+    Page<Project> findList(ProjectFilter filter, Collection<String> fields, Pageable pageable);
+
+    List<Project> findList(ProjectFilter filter, Collection<String> fields, Sort sort);
+
+    /**
+     * Keyset page ordered by {@code createdAt} then {@code _id}, both descending.
+     * Returns up to {@code limit} projects strictly after the given position;
+     * a null position starts from the newest project.
+     */
+    List<Project> findListAfter(ProjectFilter filter, Collection<String> fields,
+                                LocalDateTime afterCreatedAt, String afterId, int limit);
+
+    long countMatching(ProjectFilter filter);
+
+    /** Number of projects per category, ignoring projects without one. */
+    Map<String, Long> countByCategory();
+
+    /** Number of occurrences of each technology across all projects. */
+    Map<String, Long> countByTechnology();
+
+    /**
+     * Creates the unique {@code slug} index if it is missing. Index creation from
+     * annotations is disabled, and the slug directory relies on this index to
+     * reject concurrent creates of the same slug.
+     */
+    void ensureUniqueSlugIndex();
+
+    /**
+     * Creates the {@code createdAt}, {@code _id} index that keyset pages in
+     * {@link #findListAfter} range over and sort by, if it is missing.
+     */
+    void ensureCursorIndex();
+
+    /**
+     * Inserts all projects in one unordered bulk write, assigning ids and
+     * timestamps. Returns the error message of each failed insert keyed by its
+     * position in {@code projects}; the remaining inserts are applied regardless.
+     */
+    Map<Integer, String> bulkInsert(List<Project> projects);
+
+    /**
+     * Streams every project in {@code _id} order from a server-side cursor.
+     * The stream holds the cursor open and must be closed by the caller.
+     */
+    Stream<Project> streamAll();
+}
@@ -0,0 +1,166 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.Project;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Project> findList(ProjectFilter filter, Collection<String> fields, Pageable pageable) {
+        Query query = listQuery(filterCriteria(filter), fields).with(pageable);
+        List<Project> projects = mongoTemplate.find(query, Project.class);
+        return PageableExecutionUtils.getPage(projects, pageable, () -> countMatching(filter));
+    }
+
+    @Override
+    public List<Project> findList(ProjectFilter filter, Collection<String> fields, Sort sort) {
+        return mongoTemplate.find(listQuery(filterCriteria(filter), fields).with(sort), Project.class);
+    }
+
+    @Override
+    public List<Project> findListAfter(ProjectFilter filter, Collection<String> fields,
+                                       LocalDateTime afterCreatedAt, String afterId, int limit) {
+        List<Criteria> criteria = filterCriteria(filter);
+        if (afterCreatedAt != null && afterId != null) {
+            Object id = ObjectId.isValid(afterId) ? new ObjectId(afterId) : afterId;
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(afterCreatedAt),
+                    new Criteria().andOperator(
+                            Criteria.where("createdAt").is(afterCreatedAt),
+                            Criteria.where("_id").lt(id))));
+        }
+
+        Query query = listQuery(criteria, fields)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, Project.class);
+    }
+
+    @Override
+    public long countMatching(ProjectFilter filter) {
+        return mongoTemplate.count(toQuery(filterCriteria(filter)), Project.class);
+    }
+
+    @Override
+    public Map<String, Long> countByCategory() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("category").ne(null)),
+                Aggregation.group("category").count().as("count"));
+        return toCounts(aggregation);
+    }
+
+    @Override
+    public Map<String, Long> countByTechnology() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.unwind("technologies"),
+                Aggregation.group("technologies").count().as("count"));
+        return toCounts(aggregation);
+    }
+
+    @Override
+    public void ensureUniqueSlugIndex() {
+        mongoTemplate.indexOps(Project.class).ensureIndex(new Index("slug", Sort.Direction.ASC).unique());
+    }
+
+    @Override
+    public void ensureCursorIndex() {
+        mongoTemplate.indexOps(Project.class).ensureIndex(new Index()
+                .on("createdAt", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("createdAt_id"));
+    }
+
+    @Override
+    public Map<Integer, String> bulkInsert(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+        for (Project project : projects) {
+            project.setId(new ObjectId().toHexString());
+            project.setCreatedAt(now);
+            project.setUpdatedAt(now);
+            operations.insert(project);
+        }
+
+        try {
+            operations.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+            return errors;
+        }
+    }
+
+    @Override
+    public Stream<Project> streamAll() {
+        return mongoTemplate.stream(new Query().with(Sort.by("_id")), Project.class);
+    }
+
+    private Map<String, Long> toCounts(Aggregation aggregation) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, Project.class, Document.class)) {
+            Object value = group.get("_id");
+            if (value != null) {
+                counts.put(value.toString(), ((Number) group.get("count")).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private List<Criteria> filterCriteria(ProjectFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter.getCategory() != null) {
+            criteria.add(Criteria.where("category").is(filter.getCategory()));
+        }
+        if (filter.getFeatured() != null) {
+            criteria.add(Criteria.where("featured").is(filter.getFeatured()));
+        }
+        if (filter.getIds() != null) {
+            criteria.add(Criteria.where("_id").in(filter.getIds()));
+        }
+        return criteria;
+    }
+
+    private Query listQuery(List<Criteria> criteria, Collection<String> fields) {
+        Query query = toQuery(criteria);
+        if (fields != null) {
+            // createdAt is always needed to order pages and build cursors
+            query.fields().include(fields.toArray(new String[0])).include("createdAt");
+        }
+        return query;
+    }
+
+    private Query toQuery(List<Criteria> criteria) {
+        if (criteria.isEmpty()) {
+            return new Query();
+        }
+        return new Query(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SkillRepository extends MongoRepository<Skill, String> {
+public interface SkillRepository extends MongoRepository<Skill, String>, SkillRepositoryCustom {
 
     List<Skill> findByCategory(String category);
     List<Skill> findByCategoryIgnoreCase(String category);
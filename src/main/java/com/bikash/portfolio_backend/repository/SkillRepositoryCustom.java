@@ -0,0 +1,33 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.Skill;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface SkillRepositoryCustom {
+
+    /**
+     * All skills ordered by category then name, loading only {@code fields}
+     * (plus the id) when given, or the full documents when null.
+     */
+    List<Skill> findAllOrderByCategoryAndName(Collection<String> fields);
+
+    /**
+     * Skills whose name equals one of {@code names}, ignoring case, in a single
+     * query served by the case-insensitive name index.
+     */
+    List<Skill> findByNameInIgnoreCase(Collection<String> names);
+
+    /** Creates the case-insensitive name index if it is missing. */
+    void ensureNameIndex();
+
+    /**
+     * Writes all skills in one unordered bulk write: skills without an id are
+     * inserted with a fresh id and timestamps, the others are updated in place.
+     * Returns the error message of each failed write keyed by its position in
+     * {@code skills}; the remaining writes are applied regardless.
+     */
+    Map<Integer, String> bulkUpsert(List<Skill> skills);
+}
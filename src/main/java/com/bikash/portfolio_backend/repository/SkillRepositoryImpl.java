@@ -0,0 +1,89 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.Skill;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SkillRepositoryImpl implements SkillRepositoryCustom {
+
+    /** Queries must use the index's collation for the index to apply. */
+    private static final Collation CASE_INSENSITIVE = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Skill> findAllOrderByCategoryAndName(Collection<String> fields) {
+        Query query = new Query().with(Sort.by("category", "name"));
+        if (fields != null) {
+            query.fields().include(fields.toArray(new String[0]));
+        }
+        return mongoTemplate.find(query, Skill.class);
+    }
+
+    @Override
+    public List<Skill> findByNameInIgnoreCase(Collection<String> names) {
+        Query query = new Query(Criteria.where("name").in(names)).collation(CASE_INSENSITIVE);
+        return mongoTemplate.find(query, Skill.class);
+    }
+
+    @Override
+    public void ensureNameIndex() {
+        mongoTemplate.indexOps(Skill.class).ensureIndex(new Index("name", Sort.Direction.ASC)
+                .named("name_ci")
+                .collation(CASE_INSENSITIVE));
+    }
+
+    @Override
+    public Map<Integer, String> bulkUpsert(List<Skill> skills) {
+        if (skills.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Skill.class);
+        for (Skill skill : skills) {
+            if (skill.getId() == null) {
+                skill.setId(new ObjectId().toHexString());
+                skill.setCreatedAt(now);
+                skill.setUpdatedAt(now);
+                operations.insert(skill);
+            } else {
+                skill.setUpdatedAt(now);
+                Update update = new Update()
+                        .set("name", skill.getName())
+                        .set("category", skill.getCategory())
+                        .set("level", skill.getLevel())
+                        .set("icon", skill.getIcon())
+                        .set("description", skill.getDescription())
+                        .set("yearsOfExperience", skill.getYearsOfExperience())
+                        .set("featured", skill.isFeatured())
+                        .set("updatedAt", now);
+                operations.updateOne(new Query(Criteria.where("_id").is(skill.getId())), update);
+            }
+        }
+
+        try {
+            operations.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+            return errors;
+        }
+    }
+}
@@ -7,18 +7,17 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StatusRepository extends MongoRepository<Status, String> {
+public interface StatusRepository extends MongoRepository<Status, String>, StatusRepositoryCustom {
 
-    @Query("{'isActive': true}")
-    Optional<Status> findActiveStatus();
+    // Newest first: setStatus inserts before deactivating older statuses, so two
+    // can briefly be active together
+    Optional<Status> findFirstByIsActiveTrueOrderByIdDesc();
 
-    @Query("{'userId': ?0, 'isActive': true}")
-    Optional<Status> findActiveStatusByUserId(String userId);
+    Optional<Status> findFirstByUserIdAndIsActiveTrueOrderByIdDesc(String userId);
 
     @Query("{'userId': ?0}")
     Page<Status> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
@@ -26,11 +25,8 @@ public interface StatusRepository extends MongoRepository<Status, String> {
     @Query("{'userId': ?0}")
     List<Status> findByUserIdOrderByCreatedAtDesc(String userId);
 
-    @Query("{'isActive': true, 'expiresAt': {$lte: ?0}}")
-    List<Status> findExpiredActiveStatuses(LocalDateTime now);
-
-    @Query("{'userId': ?0, 'isActive': true}")
-    List<Status> findActiveStatusesByUserId(String userId);
+    @Query(value = "{'isActive': true, 'expiresAt': {$ne: null}}", fields = "{'isActive': 1, 'expiresAt': 1}")
+    List<Status> findActiveExpiringStatuses();
 
     @Query("{'_id': ?0, 'userId': ?1}")
     Optional<Status> findByIdAndUserId(String id, String userId);
@@ -0,0 +1,35 @@
+package com.bikash.portfolio_backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Server-side multi-updates for status deactivation. Each method first reads
+ * the ids of the matching statuses, projected to {@code _id} only, for the
+ * caller to log and cancel timers. It then deactivates them with one
+ * {@code updateMany} that repeats the match conditions, so a status changed in
+ * between is not overwritten.
+ */
+public interface StatusRepositoryCustom {
+
+    record Deactivation(long count, List<String> ids) {
+
+        public static final Deactivation NONE = new Deactivation(0, List.of());
+    }
+
+    /**
+     * Deactivates those of {@code ids} that are still active and have expired
+     * by {@code cutoff}.
+     */
+    long deactivateExpired(Collection<String> ids, LocalDateTime cutoff);
+
+    /** Deactivates every active status that has expired by {@code cutoff}. */
+    Deactivation deactivateExpired(LocalDateTime cutoff);
+
+    /**
+     * Deactivates the user's active statuses, limited to those older than
+     * {@code beforeId} when it is given, so a newer status always wins.
+     */
+    Deactivation deactivateActive(String userId, String beforeId);
+}
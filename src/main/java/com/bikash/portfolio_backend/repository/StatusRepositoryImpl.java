@@ -0,0 +1,62 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.Status;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StatusRepositoryImpl implements StatusRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long deactivateExpired(Collection<String> ids, LocalDateTime cutoff) {
+        Query query = new Query(Criteria.where("_id").in(ids)
+                .and("isActive").is(true)
+                .and("expiresAt").lte(cutoff));
+        return mongoTemplate.updateMulti(query, deactivate(), Status.class).getModifiedCount();
+    }
+
+    @Override
+    public Deactivation deactivateExpired(LocalDateTime cutoff) {
+        return deactivateMatching(Criteria.where("isActive").is(true).and("expiresAt").lte(cutoff));
+    }
+
+    @Override
+    public Deactivation deactivateActive(String userId, String beforeId) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("isActive").is(true);
+        if (beforeId != null) {
+            criteria.and("_id").lt(new ObjectId(beforeId));
+        }
+        return deactivateMatching(criteria);
+    }
+
+    private Deactivation deactivateMatching(Criteria criteria) {
+        Query idQuery = new Query(criteria);
+        idQuery.fields().include("_id");
+        List<String> ids = mongoTemplate.find(idQuery, Status.class).stream()
+                .map(Status::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return Deactivation.NONE;
+        }
+
+        Query updateQuery = new Query(new Criteria().andOperator(criteria, Criteria.where("_id").in(ids)));
+        long count = mongoTemplate.updateMulti(updateQuery, deactivate(), Status.class).getModifiedCount();
+        return new Deactivation(count, ids);
+    }
+
+    private static Update deactivate() {
+        return new Update()
+                .set("isActive", false)
+                .set("updatedAt", LocalDateTime.now());
+    }
+}
@@ -10,6 +10,7 @@ import com.bikash.portfolio_backend.exception.AuthenticationException;
 import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
 import com.bikash.portfolio_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +23,7 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuthenticationService {
 
     private final UserRepository userRepository;
@@ -29,6 +31,7 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
+    private final ContentVersionService contentVersionService;
 
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -49,7 +52,7 @@ public class AuthenticationService {
 
         User savedUser = userRepository.save(user);
 
-        emailService.sendEmailVerification(savedUser.getEmail(), verificationToken);
+        sendEmailVerification(savedUser.getEmail(), verificationToken);
 
         return generateAuthResponse(savedUser);
     }
@@ -132,6 +135,7 @@ public class AuthenticationService {
                     .collect(java.util.stream.Collectors.toList()));
         }
 
+        String verificationToken = null;
         if (!request.getEmail().equals(email)) {
             if (userRepository.existsByEmail(request.getEmail())) {
                 throw new AuthenticationException("Email already exists");
@@ -139,14 +143,16 @@ public class AuthenticationService {
             user.setEmail(request.getEmail());
             user.setEmailVerified(false);
             
-            String verificationToken = generateToken();
+            verificationToken = generateToken();
             user.setEmailVerificationToken(verificationToken);
             user.setEmailVerificationExpiry(LocalDateTime.now().plusHours(24));
-            
-            emailService.sendEmailVerification(request.getEmail(), verificationToken);
         }
 
         User updatedUser = userRepository.save(user);
+        if (verificationToken != null) {
+            sendEmailVerification(updatedUser.getEmail(), verificationToken);
+        }
+        contentVersionService.bump(ContentVersionService.Content.PROFILE);
         return UserDto.fromUser(updatedUser);
     }
 
@@ -171,6 +177,7 @@ public class AuthenticationService {
         user.setPasswordResetExpiry(LocalDateTime.now().plusHours(1));
 
         userRepository.save(user);
+        // Unlike verification, a failed enqueue fails the request, so the user can simply ask again
         emailService.sendPasswordResetEmail(email, resetToken);
     }
 
@@ -210,6 +217,18 @@ public class AuthenticationService {
                 .build();
     }
 
+    /**
+     * The account change is already stored, so failing to queue the mail is
+     * logged instead of failing the request.
+     */
+    private void sendEmailVerification(String toEmail, String token) {
+        try {
+            emailService.sendEmailVerification(toEmail, token);
+        } catch (Exception e) {
+            log.error("Failed to queue email verification to: {}", toEmail, e);
+        }
+    }
+
     private String generateToken() {
         SecureRandom random = new SecureRandom();
         byte[] bytes = new byte[32];
@@ -0,0 +1,186 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.ContactMessage;
+import com.bikash.portfolio_backend.exception.ServiceUnavailableException;
+import com.bikash.portfolio_backend.repository.ContactMessageRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes contact submissions off the request thread. Submissions go into a
+ * bounded queue and a single writer thread drains it, inserting whatever has
+ * accumulated with one {@code insertMany} and then queueing the admin
+ * notifications. A full queue rejects new submissions instead of blocking
+ * Tomcat threads. Batches that cannot be written, and anything still queued at
+ * shutdown, are appended to a spill file that is replayed on the next start.
+ */
+@Component
+@Slf4j
+public class ContactIngestionQueue {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final ContactNotificationDigest contactNotificationDigest;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ContactMessage> queue;
+    private final int batchSize;
+    private final Path spillFile;
+
+    private volatile Thread writer;
+    private volatile boolean accepting = true;
+
+    public ContactIngestionQueue(ContactMessageRepository contactMessageRepository,
+                                 ContactNotificationDigest contactNotificationDigest,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.contact.queue-capacity:1000}") int capacity,
+                                 @Value("${app.contact.batch-size:100}") int batchSize,
+                                 @Value("${app.contact.spill-file:contact-spill.ndjson}") String spillFile) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.contactNotificationDigest = contactNotificationDigest;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.spillFile = Path.of(spillFile);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        replaySpillFile();
+        writer = new Thread(this::run, "contact-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting submissions, lets the writer finish its current batch and
+     * writes out whatever is left, spilling it to disk if Mongo is unavailable.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        accepting = false;
+        Thread current = writer;
+        writer = null;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<ContactMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} queued contact messages on shutdown", remaining.size());
+            write(remaining);
+        }
+    }
+
+    /**
+     * Queues a message for insertion. The message must already carry its id
+     * and timestamps, since it is returned to the client before it is written.
+     *
+     * @throws ServiceUnavailableException if the queue is full or shutting down
+     */
+    public void submit(ContactMessage message) {
+        if (!accepting || !queue.offer(message)) {
+            throw new ServiceUnavailableException(
+                    "Too many contact submissions right now, please try again shortly", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<ContactMessage> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<ContactMessage> batch) {
+        try {
+            contactMessageRepository.insert(batch);
+            log.debug("Inserted {} contact messages", batch.size());
+        } catch (Exception e) {
+            log.error("Failed to insert {} contact messages, spilling to {}: {}", batch.size(), spillFile, e.getMessage());
+            spill(batch);
+            return;
+        }
+        try {
+            contactNotificationDigest.notify(batch);
+        } catch (Exception e) {
+            log.error("Failed to queue notifications for {} contact messages: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private synchronized void spill(List<ContactMessage> batch) {
+        try (OutputStream out = Files.newOutputStream(spillFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ContactMessage message : batch) {
+                out.write(objectMapper.writeValueAsBytes(message));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            log.error("Failed to spill {} contact messages, they are lost: {}", batch.size(), batch, e);
+        }
+    }
+
+    /**
+     * Writes back messages spilled by an earlier run. Messages keep the ids
+     * they were given on submission, so saving is idempotent if the spill file
+     * is replayed twice. The admin is notified of them once the replay succeeds.
+     */
+    private void replaySpillFile() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+        List<ContactMessage> messages = new ArrayList<>();
+        try (MappingIterator<ContactMessage> records = objectMapper.readerFor(ContactMessage.class).readValues(spillFile.toFile())) {
+            while (records.hasNext()) {
+                messages.add(records.next());
+            }
+            contactMessageRepository.saveAll(messages);
+            Files.delete(spillFile);
+            log.info("Replayed {} spilled contact messages from {}", messages.size(), spillFile);
+        } catch (Exception e) {
+            log.warn("Could not replay spilled contact messages from {}, will retry on next start: {}", spillFile, e.getMessage());
+            return;
+        }
+        try {
+            contactNotificationDigest.notify(messages);
+        } catch (Exception e) {
+            log.error("Failed to queue notifications for {} replayed contact messages: {}", messages.size(), e.getMessage());
+        }
+    }
+}
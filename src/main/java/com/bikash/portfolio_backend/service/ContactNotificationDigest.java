@@ -0,0 +1,113 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.ContactMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how the admin hears about new contact messages. With digest mode
+ * off, every message gets its own notification. With it on, messages are
+ * collected from the first one in a window until the window closes or enough
+ * have arrived, then sent as one summary mail, so a burst of submissions costs
+ * one mail per window. Pending messages are flushed on shutdown; the messages
+ * themselves are already stored, so at worst a crash loses their notification.
+ */
+@Component
+@Slf4j
+public class ContactNotificationDigest {
+
+    private final EmailService emailService;
+
+    @Value("${spring.mail.username}")
+    private String adminEmail;
+
+    @Value("${app.contact.digest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.contact.digest.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${app.contact.digest.max-items:50}")
+    private int maxItems;
+
+    private final List<ContactMessage> pending = new ArrayList<>();
+    private long windowStartNanos;
+
+    public ContactNotificationDigest(EmailService emailService) {
+        this.emailService = emailService;
+    }
+
+    /**
+     * Notifies the admin of newly stored messages, now or in the next digest.
+     */
+    public void notify(List<ContactMessage> messages) {
+        if (!enabled) {
+            emailService.sendContactNotifications(adminEmail, messages);
+            return;
+        }
+        List<ContactMessage> due = null;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                windowStartNanos = System.nanoTime();
+            }
+            pending.addAll(messages);
+            if (pending.size() >= maxItems) {
+                due = takePending();
+            }
+        }
+        if (due != null) {
+            send(due);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.contact.digest.poll-millis:5000}")
+    public void flushIfDue() {
+        List<ContactMessage> due;
+        synchronized (this) {
+            if (pending.isEmpty()
+                    || System.nanoTime() - windowStartNanos < TimeUnit.SECONDS.toNanos(windowSeconds)) {
+                return;
+            }
+            due = takePending();
+        }
+        send(due);
+    }
+
+    @PreDestroy
+    public void flush() {
+        List<ContactMessage> due;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            due = takePending();
+        }
+        send(due);
+    }
+
+    private List<ContactMessage> takePending() {
+        List<ContactMessage> due = new ArrayList<>(pending);
+        pending.clear();
+        return due;
+    }
+
+    /** A window with a single message gets the regular notification. */
+    private void send(List<ContactMessage> messages) {
+        try {
+            if (messages.size() == 1) {
+                emailService.sendContactNotifications(adminEmail, messages);
+            } else {
+                emailService.sendContactDigest(adminEmail, messages);
+            }
+        } catch (Exception e) {
+            log.error("Failed to queue contact notifications for {} messages: {}", messages.size(), e.getMessage());
+        }
+    }
+}
@@ -8,7 +8,7 @@ import com.bikash.portfolio_backend.entity.ContactMessage;
 import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
 import com.bikash.portfolio_backend.repository.ContactMessageRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,13 +25,17 @@ import java.util.stream.Collectors;
 public class ContactService {
 
     private final ContactMessageRepository contactMessageRepository;
-    private final EmailService emailService;
-
-    @Value("${spring.mail.username}")
-    private String adminEmail;
+    private final ContactIngestionQueue contactIngestionQueue;
 
+    /**
+     * Accepts a contact submission for asynchronous storage. The id and
+     * timestamps are assigned here so the caller gets the final message back
+     * before {@link ContactIngestionQueue} has written it.
+     */
     public ContactMessageDto submitContactForm(ContactFormRequest request) {
+        LocalDateTime now = LocalDateTime.now();
         ContactMessage contactMessage = ContactMessage.builder()
+                .id(new ObjectId().toHexString())
                 .name(request.getName())
                 .email(request.getEmail())
                 .subject(request.getSubject())
@@ -39,13 +43,13 @@ public class ContactService {
                 .status(ContactMessage.Status.UNREAD)
                 .ipAddress(request.getIpAddress())
                 .userAgent(request.getUserAgent())
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
 
-        ContactMessage savedMessage = contactMessageRepository.save(contactMessage);
-
-        emailService.sendContactNotification(adminEmail, request.getName(), request.getEmail(), request.getSubject());
+        contactIngestionQueue.submit(contactMessage);
 
-        return ContactMessageDto.fromContactMessage(savedMessage);
+        return ContactMessageDto.fromContactMessage(contactMessage);
     }
 
     public ContactResponse getContactMessages(int page, int limit, ContactMessage.Status status, String search, String sortBy, String sortOrder) {
@@ -0,0 +1,41 @@
+package com.bikash.portfolio_backend.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks a version per public content collection, bumped after every write.
+ * Versions are prefixed with a per-process epoch so tags issued before a restart
+ * never match afterwards. Versions and caches are per instance: an instance
+ * that did not take a write keeps its version, and serves its cached
+ * responses, until those entries expire.
+ */
+@Service
+public class ContentVersionService {
+
+    public enum Content {
+        PROJECTS,
+        SKILLS,
+        PROFILE
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Content, AtomicLong> versions = new EnumMap<>(Content.class);
+
+    public ContentVersionService() {
+        for (Content content : Content.values()) {
+            versions.put(content, new AtomicLong());
+        }
+    }
+
+    public String currentVersion(Content content) {
+        return epoch + "-" + versions.get(content).get();
+    }
+
+    public void bump(Content content) {
+        versions.get(content).incrementAndGet();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.status.StatusDto;
+import com.bikash.portfolio_backend.entity.Status;
+import com.bikash.portfolio_backend.event.StatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the public current status, including the absence of one, until the next
+ * {@link StatusChangedEvent}. An entry never outlives the cached status's
+ * {@code expiresAt}, and is additionally capped by a maximum lifetime so that
+ * writes made by another instance are picked up eventually.
+ */
+@Component
+public class CurrentStatusCache {
+
+    private final AtomicReference<Entry> entry = new AtomicReference<>(Entry.EMPTY);
+    private final Duration maxTtl;
+
+    public CurrentStatusCache(@Value("${app.status.current-cache-max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+    }
+
+    public Optional<StatusDto> get(Supplier<Optional<Status>> loader) {
+        Entry current = entry.get();
+        long now = System.nanoTime();
+        if (current.value != null && now - current.deadlineNanos < 0) {
+            return current.value;
+        }
+
+        Optional<Status> status = loader.get();
+        Duration ttl = maxTtl;
+        if (status.isPresent() && status.get().getExpiresAt() != null) {
+            Duration untilExpiry = Duration.between(LocalDateTime.now(), status.get().getExpiresAt());
+            ttl = untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+        }
+        Optional<StatusDto> value = status.map(StatusDto::publicFromStatus);
+
+        // Only store if no invalidation happened while loading, or a stale status could stick
+        entry.compareAndSet(current, new Entry(value, now + Math.max(0, ttl.toNanos())));
+        return value;
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStatusChanged(StatusChangedEvent event) {
+        entry.set(new Entry(null, 0));
+    }
+
+    /** Compared by identity, so every invalidation installs a fresh instance. */
+    private record Entry(Optional<StatusDto> value, long deadlineNanos) {
+
+        private static final Entry EMPTY = new Entry(null, 0);
+    }
+}
@@ -0,0 +1,193 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import com.bikash.portfolio_backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the email outbox. Each poll claims due messages in batches and
+ * sends them on a small worker pool over pooled SMTP connections, repeating
+ * while full batches keep coming. A failed send is retried with exponential
+ * backoff and dead-lettered once it has used up its attempts. A message whose
+ * worker dies mid-send is reclaimed when its lease runs out, so delivery is at
+ * least once. Polls run on their own thread rather than the shared task
+ * scheduler, since a poll blocks for as long as full batches keep coming.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final SmtpTransportPool smtpTransportPool;
+    private final ScheduledExecutorService poller;
+    private final ExecutorService workers;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+    private final Counter deadCounter;
+
+    @Value("${app.mail.outbox.poll-millis:2000}")
+    private long pollMillis;
+
+    @Value("${app.mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${app.mail.outbox.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    @Value("${app.mail.outbox.sent-retention-days:7}")
+    private long sentRetentionDays;
+
+    @Value("${app.mail.outbox.dead-retention-days:30}")
+    private long deadRetentionDays;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailService emailService,
+                                 SmtpTransportPool smtpTransportPool,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.mail.outbox.workers:4}") int workerCount) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.smtpTransportPool = smtpTransportPool;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("mail.outbox.depth", pendingCount, AtomicLong::get)
+                .description("Emails waiting in the outbox as of the last poll")
+                .register(meterRegistry);
+        this.sentTimer = Timer.builder("mail.send.latency")
+                .description("Time taken to render and send one email")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("mail.send.latency")
+                .description("Time taken to render and send one email")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.outbox.dead")
+                .description("Emails dead-lettered after using up their attempts")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            emailOutboxRepository.ensureIndexes(Duration.ofDays(sentRetentionDays), Duration.ofDays(deadRetentionDays));
+        } catch (Exception e) {
+            log.warn("Could not ensure email outbox indexes: {}", e.getMessage());
+        }
+        poller.scheduleWithFixedDelay(this::dispatch, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        poller.shutdown();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Unfinished claims are picked up again once their lease expires
+            workers.shutdownNow();
+        }
+    }
+
+    /** One poll: claims and sends batches until one comes back short. */
+    public void dispatch() {
+        try {
+            List<EmailOutboxMessage> claimed;
+            do {
+                claimed = emailOutboxRepository.claimDue(batchSize, Duration.ofSeconds(leaseSeconds));
+                if (!claimed.isEmpty()) {
+                    sendAll(claimed);
+                }
+            } while (claimed.size() == batchSize && !workers.isShutdown());
+            pendingCount.set(emailOutboxRepository.countByStatus(EmailOutboxMessage.Status.PENDING));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Email outbox dispatch failed, will retry on next poll: {}", e.getMessage());
+        }
+    }
+
+    private void sendAll(List<EmailOutboxMessage> messages) throws InterruptedException {
+        List<Callable<Void>> sends = new ArrayList<>(messages.size());
+        for (EmailOutboxMessage message : messages) {
+            sends.add(() -> {
+                send(message);
+                return null;
+            });
+        }
+        workers.invokeAll(sends);
+    }
+
+    private void send(EmailOutboxMessage message) {
+        long start = System.nanoTime();
+        try {
+            smtpTransportPool.send(emailService.createMimeMessage(message));
+        } catch (Exception e) {
+            failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            fail(message, e);
+            return;
+        }
+        sentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        emailOutboxRepository.markSent(message.getId());
+        log.info("{} email sent to: {}", message.getType(), message.getRecipient());
+    }
+
+    private void fail(EmailOutboxMessage message, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (message.getAttempts() >= maxAttempts) {
+            emailOutboxRepository.markDead(message.getId(), error);
+            deadCounter.increment();
+            log.error("{} email to {} dead-lettered after {} attempts: {}",
+                    message.getType(), message.getRecipient(), message.getAttempts(), error);
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(message.getAttempts()));
+        emailOutboxRepository.reschedule(message.getId(), error, nextAttemptAt);
+        log.warn("{} email to {} failed on attempt {}, retrying at {}: {}",
+                message.getType(), message.getRecipient(), message.getAttempts(), nextAttemptAt, error);
+    }
+
+    /** {@code retryBase * 2^(attempts - 1)}, capped at {@code retryMax}. */
+    private Duration backoff(int attempts) {
+        long seconds = retryBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, retryMaxSeconds));
+    }
+}
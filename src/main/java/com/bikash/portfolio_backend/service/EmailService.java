@@ -1,23 +1,39 @@
 package com.bikash.portfolio_backend.service;
 
+import com.bikash.portfolio_backend.entity.ContactMessage;
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import com.bikash.portfolio_backend.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emails are written to the outbox by the {@code send*} methods and delivered
+ * later by {@link EmailOutboxDispatcher}, so callers never wait on SMTP and a
+ * failed send is retried instead of lost. They should be called once the
+ * change the mail refers to is stored; a failure to write the outbox is thrown
+ * to the caller.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
+    private static final DateTimeFormatter RECEIVED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     @Value("${spring.mail.from}")
     private String fromEmail;
@@ -26,66 +42,103 @@ public class EmailService {
     private String allowedOrigins;
 
     public void sendEmailVerification(String toEmail, String token) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("Verify Your Email Address");
-
-            String verificationUrl = getBaseUrl() + "/auth/verify-email?token=" + token;
-            Context context = new Context();
-            context.setVariable("verificationUrl", verificationUrl);
-            String htmlContent = templateEngine.process("email-verification.html", context);
-            helper.setText(htmlContent, true);
-
-            mailSender.send(message);
-            log.info("Email verification sent to: {}", toEmail);
-        } catch (Exception e) {
-            log.error("Failed to send email verification to: {}", toEmail, e);
-        }
+        enqueue(EmailOutboxMessage.Type.EMAIL_VERIFICATION, toEmail, Map.of("token", token));
     }
 
     public void sendPasswordResetEmail(String toEmail, String token) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("Reset Your Password");
-
-            String resetUrl = getBaseUrl() + "/auth/reset-password?token=" + token;
-            message.setText("Please click the following link to reset your password:\n\n" + resetUrl +
-                          "\n\nThis link will expire in 1 hour.");
-
-            mailSender.send(message);
-            log.info("Password reset email sent to: {}", toEmail);
-        } catch (Exception e) {
-            log.error("Failed to send password reset email to: {}", toEmail, e);
-        }
+        enqueue(EmailOutboxMessage.Type.PASSWORD_RESET, toEmail, Map.of("token", token));
     }
 
     public void sendContactNotification(String adminEmail, String contactName, String contactEmail, String subject) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(adminEmail);
-            message.setSubject("New Contact Form Submission");
-
-            message.setText("You have received a new contact form submission:\n\n" +
-                          "Name: " + contactName + "\n" +
-                          "Email: " + contactEmail + "\n" +
-                          "Subject: " + subject + "\n\n" +
-                          "Please log in to your admin panel to view the full message.");
-
-            mailSender.send(message);
-            log.info("Contact notification sent to admin: {}", adminEmail);
-        } catch (Exception e) {
-            log.error("Failed to send contact notification to admin: {}", adminEmail, e);
+        enqueue(EmailOutboxMessage.Type.CONTACT_NOTIFICATION, adminEmail, contactPayload(contactName, contactEmail, subject));
+    }
+
+    /** Queues one notification per message with a single insert. */
+    public void sendContactNotifications(String adminEmail, List<ContactMessage> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> outbox = messages.stream()
+                .map(message -> outboxMessage(EmailOutboxMessage.Type.CONTACT_NOTIFICATION, adminEmail,
+                        contactPayload(message.getName(), message.getEmail(), message.getSubject()), now))
+                .toList();
+        emailOutboxRepository.insert(outbox);
+        log.info("Queued {} contact notifications for admin: {}", outbox.size(), adminEmail);
+    }
+
+    /** Queues one summary mail listing all of {@code messages}. */
+    public void sendContactDigest(String adminEmail, List<ContactMessage> messages) {
+        List<Map<String, String>> items = messages.stream()
+                .map(message -> Map.of(
+                        "receivedAt", message.getCreatedAt() != null ? message.getCreatedAt().format(RECEIVED_AT) : "",
+                        "name", message.getName(),
+                        "email", message.getEmail(),
+                        "subject", message.getSubject()))
+                .toList();
+        EmailOutboxMessage digest = outboxMessage(EmailOutboxMessage.Type.CONTACT_DIGEST, adminEmail,
+                Map.of("count", String.valueOf(items.size())), LocalDateTime.now());
+        digest.setItems(items);
+        emailOutboxRepository.insert(digest);
+        log.info("Queued contact digest of {} submissions for admin: {}", items.size(), adminEmail);
+    }
+
+    /**
+     * Renders an outbox message into a mail ready to send.
+     */
+    public MimeMessage createMimeMessage(EmailOutboxMessage outboxMessage) throws MessagingException {
+        Map<String, String> payload = outboxMessage.getPayload();
+        EmailTemplateRenderer.Template template;
+        String html;
+        switch (outboxMessage.getType()) {
+            case EMAIL_VERIFICATION -> {
+                template = EmailTemplateRenderer.Template.EMAIL_VERIFICATION;
+                html = emailTemplateRenderer.render(template,
+                        Map.of("verificationUrl", getBaseUrl() + "/auth/verify-email?token=" + payload.get("token")));
+            }
+            case PASSWORD_RESET -> {
+                template = EmailTemplateRenderer.Template.PASSWORD_RESET;
+                html = emailTemplateRenderer.render(template,
+                        Map.of("resetUrl", getBaseUrl() + "/auth/reset-password?token=" + payload.get("token")));
+            }
+            case CONTACT_DIGEST -> {
+                template = EmailTemplateRenderer.Template.CONTACT_DIGEST;
+                html = emailTemplateRenderer.renderList(template, payload,
+                        EmailTemplateRenderer.Template.CONTACT_DIGEST_ROW, outboxMessage.getItems());
+            }
+            default -> {
+                template = EmailTemplateRenderer.Template.CONTACT_NOTIFICATION;
+                html = emailTemplateRenderer.render(template, payload);
+            }
         }
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(outboxMessage.getRecipient());
+        helper.setSubject(template.getSubject());
+        helper.setText(html, true);
+        return message;
+    }
+
+    private void enqueue(EmailOutboxMessage.Type type, String recipient, Map<String, String> payload) {
+        emailOutboxRepository.insert(outboxMessage(type, recipient, payload, LocalDateTime.now()));
+        log.info("Queued {} email to: {}", type, recipient);
+    }
+
+    private static EmailOutboxMessage outboxMessage(EmailOutboxMessage.Type type, String recipient,
+                                                    Map<String, String> payload, LocalDateTime now) {
+        return EmailOutboxMessage.builder()
+                .type(type)
+                .recipient(recipient)
+                .payload(payload)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    private static Map<String, String> contactPayload(String contactName, String contactEmail, String subject) {
+        return Map.of("name", contactName, "email", contactEmail, "subject", subject);
     }
 
     private String getBaseUrl() {
         String[] origins = allowedOrigins.split(",");
         return origins[0].trim();
     }
-} 
\ No newline at end of file
+}
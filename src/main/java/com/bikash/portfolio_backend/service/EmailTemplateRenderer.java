@@ -0,0 +1,148 @@
+package com.bikash.portfolio_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders email bodies without running Thymeleaf per mail. At startup every
+ * template is processed once with a unique marker in place of each variable,
+ * and the output is split at the markers into static segments and slots. A
+ * send then only concatenates the segments with the HTML-escaped values.
+ * Templates may therefore use their variables only as output, with
+ * {@code th:text} or in attributes, never in conditions, loops or expressions
+ * that transform them; a declared variable that does not come through to the
+ * output fails compilation, and with it startup. Repeated
+ * content is rendered row by row from its own template and placed in the
+ * list slot of the enclosing one.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    public enum Template {
+        EMAIL_VERIFICATION("email-verification", "Verify Your Email Address", "verificationUrl"),
+        PASSWORD_RESET("password-reset", "Reset Your Password", "resetUrl"),
+        CONTACT_NOTIFICATION("contact-notification", "New Contact Form Submission", "name", "email", "subject"),
+        CONTACT_DIGEST("contact-digest", "New Contact Form Submissions", "count", ROWS),
+        CONTACT_DIGEST_ROW("contact-digest-row", null, "receivedAt", "name", "email", "subject");
+
+        private final String name;
+        private final String subject;
+        private final List<String> variables;
+
+        Template(String name, String subject, String... variables) {
+            this.name = name;
+            this.subject = subject;
+            this.variables = List.of(variables);
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+    }
+
+    /** Slot taking the rendered rows of a list template; its value is not escaped again. */
+    private static final String ROWS = "rows";
+
+    private final Map<Template, CompiledTemplate> compiled = new EnumMap<>(Template.class);
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine) {
+        for (Template template : Template.values()) {
+            compiled.put(template, compile(templateEngine, template));
+        }
+        log.info("Precompiled {} email templates", compiled.size());
+    }
+
+    /**
+     * Renders a template; variables missing from {@code values} render empty.
+     */
+    public String render(Template template, Map<String, String> values) {
+        return compiled.get(template).render(values, null);
+    }
+
+    /**
+     * Renders {@code rowTemplate} once per row and places the rows, in order,
+     * in the {@code rows} slot of {@code template}.
+     */
+    public String renderList(Template template, Map<String, String> values,
+                             Template rowTemplate, List<Map<String, String>> rows) {
+        CompiledTemplate row = compiled.get(rowTemplate);
+        StringBuilder html = new StringBuilder(row.lengthHint() * rows.size());
+        for (Map<String, String> rowValues : rows) {
+            html.append(row.render(rowValues, null));
+        }
+        return compiled.get(template).render(values, html.toString());
+    }
+
+    private static CompiledTemplate compile(TemplateEngine templateEngine, Template template) {
+        // Letters, digits and underscores come through HTML and attribute escaping unchanged
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        Context context = new Context();
+        for (int i = 0; i < template.variables.size(); i++) {
+            context.setVariable(template.variables.get(i), marker(nonce, i));
+        }
+        String output = templateEngine.process(template.name, context);
+
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int next = -1;
+            int slot = -1;
+            for (int i = 0; i < template.variables.size(); i++) {
+                int index = output.indexOf(marker(nonce, i), start);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    slot = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            segments.add(output.substring(start, next));
+            slots.add(template.variables.get(slot));
+            start = next + marker(nonce, slot).length();
+        }
+        segments.add(output.substring(start));
+        for (String variable : template.variables) {
+            if (!slots.contains(variable)) {
+                throw new IllegalStateException("Email template " + template.name + " does not output variable '"
+                        + variable + "' unchanged; it may only be used with th:text or in attributes");
+            }
+        }
+        return new CompiledTemplate(segments.toArray(new String[0]), slots.toArray(new String[0]), output.length());
+    }
+
+    private static String marker(String nonce, int slot) {
+        return "emailslot" + slot + "x" + nonce;
+    }
+
+    /** {@code segments} has one more element than {@code slots}; they interleave. */
+    private record CompiledTemplate(String[] segments, String[] slots, int lengthHint) {
+
+        String render(Map<String, String> values, String rows) {
+            StringBuilder html = new StringBuilder(lengthHint + 64 * slots.length + (rows != null ? rows.length() : 0));
+            for (int i = 0; i < slots.length; i++) {
+                html.append(segments[i]);
+                String value = values.get(slots[i]);
+                if (ROWS.equals(slots[i])) {
+                    if (rows != null) {
+                        html.append(rows);
+                    }
+                } else if (value != null) {
+                    html.append(HtmlUtils.htmlEscape(value, "UTF-8"));
+                }
+            }
+            return html.append(segments[slots.length]).toString();
+        }
+    }
+}
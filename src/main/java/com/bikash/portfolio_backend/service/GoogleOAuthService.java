@@ -19,6 +19,7 @@ public class GoogleOAuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final ContentVersionService contentVersionService;
 
     
     public AuthResponse processGoogleAuth(String email, String name, String googleId) {
@@ -33,6 +34,8 @@ public class GoogleOAuthService {
             user = createGoogleUser(email, name, googleId);
             log.info("Created new Google user: {}", email);
         }
+        // Name or role may have changed, both of which show on the public profile
+        contentVersionService.bump(ContentVersionService.Content.PROFILE);
         
         return generateAuthResponse(user);
     }
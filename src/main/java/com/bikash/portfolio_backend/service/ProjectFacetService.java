@@ -0,0 +1,96 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.project.ProjectFacetsDto;
+import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Category and technology counts for filter sidebars. The counts are seeded
+ * from one aggregation per facet and then adjusted by each project write, so
+ * Mongo is only consulted again after a bulk reload.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectFacetService {
+
+    private final ProjectRepository projectRepository;
+
+    private Map<String, Long> categoryCounts;
+    private Map<String, Long> technologyCounts;
+    private long total;
+    private ProjectFacetsDto facets;
+
+    public synchronized ProjectFacetsDto getFacets() {
+        if (categoryCounts == null) {
+            load();
+        }
+        if (facets == null) {
+            facets = ProjectFacetsDto.builder()
+                    .categories(toFacetCounts(categoryCounts))
+                    .technologies(toFacetCounts(technologyCounts))
+                    .total(total)
+                    .build();
+        }
+        return facets;
+    }
+
+    @EventListener
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (categoryCounts == null) {
+            return;
+        }
+        if (event.isReload()) {
+            categoryCounts = null;
+            facets = null;
+            return;
+        }
+        if (event.getBefore() != null) {
+            apply(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            apply(event.getAfter(), 1);
+        }
+        facets = null;
+    }
+
+    private void load() {
+        categoryCounts = new HashMap<>(projectRepository.countByCategory());
+        technologyCounts = new HashMap<>(projectRepository.countByTechnology());
+        total = projectRepository.count();
+        log.info("Loaded project facets: {} categories, {} technologies", categoryCounts.size(), technologyCounts.size());
+    }
+
+    private void apply(Project project, int delta) {
+        total += delta;
+        adjust(categoryCounts, project.getCategory(), delta);
+        if (project.getTechnologies() != null) {
+            project.getTechnologies().forEach(technology -> adjust(technologyCounts, technology, delta));
+        }
+    }
+
+    private static void adjust(Map<String, Long> counts, String value, int delta) {
+        if (value == null || (delta < 0 && !counts.containsKey(value))) {
+            return;
+        }
+        counts.merge(value, (long) delta, (current, change) -> current + change > 0 ? current + change : null);
+    }
+
+    private static List<ProjectFacetsDto.FacetCount> toFacetCounts(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new ProjectFacetsDto.FacetCount(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(ProjectFacetsDto.FacetCount::getCount).reversed()
+                        .thenComparing(ProjectFacetsDto.FacetCount::getValue))
+                .toList();
+    }
+}
@@ -0,0 +1,288 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over project title, technologies and description.
+ * Query terms match indexed terms exactly, by prefix, or (for three or more
+ * characters) anywhere inside a term via a trigram index, with decreasing weight.
+ * All query terms must match for a project to be returned.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TECHNOLOGY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.6f;
+    private static final float INFIX_MATCH = 0.3f;
+
+    private final ProjectRepository projectRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedProject> documents = new HashMap<>();
+    private final TreeMap<String, Map<String, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Project search index not built at startup, will retry on first search: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        if (event.isReload()) {
+            rebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.getBefore() != null) {
+                remove(event.getBefore().getId());
+            }
+            if (event.getAfter() != null) {
+                add(event.getAfter());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of matching projects, best match first and newest first on ties.
+     * {@code category} and {@code featured} are optional exact-match filters.
+     */
+    public List<String> search(String query, String category, Boolean featured) {
+        ensureLoaded();
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Float> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<String, Float> termScores = scoreTerm(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<IndexedProject> hits = new ArrayList<>();
+            for (String id : scores.keySet()) {
+                IndexedProject document = documents.get(id);
+                if (category != null && !category.equals(document.category())) {
+                    continue;
+                }
+                if (featured != null && featured != document.featured()) {
+                    continue;
+                }
+                hits.add(document);
+            }
+
+            Map<String, Float> finalScores = scores;
+            hits.sort(Comparator.<IndexedProject>comparingDouble(document -> finalScores.get(document.id())).reversed()
+                    .thenComparing(IndexedProject::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+            return hits.stream().map(IndexedProject::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Float> scoreTerm(String queryTerm) {
+        Map<String, Float> scores = new HashMap<>();
+
+        for (Map.Entry<String, Map<String, Float>> entry : postings.tailMap(queryTerm, true).entrySet()) {
+            String term = entry.getKey();
+            if (!term.startsWith(queryTerm)) {
+                break;
+            }
+            float factor = term.equals(queryTerm) ? EXACT_MATCH : PREFIX_MATCH;
+            accumulate(scores, entry.getValue(), factor);
+        }
+
+        if (queryTerm.length() >= 3) {
+            for (String term : candidateTermsContaining(queryTerm)) {
+                if (!term.startsWith(queryTerm)) {
+                    accumulate(scores, postings.get(term), INFIX_MATCH);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void accumulate(Map<String, Float> scores, Map<String, Float> posting, float factor) {
+        posting.forEach((id, weight) -> scores.merge(id, weight * factor, Math::max));
+    }
+
+    private Set<String> candidateTermsContaining(String queryTerm) {
+        Set<String> candidates = null;
+        for (String gram : trigramsOf(queryTerm)) {
+            Set<String> terms = trigrams.get(gram);
+            if (terms == null) {
+                return Set.of();
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(terms);
+            } else {
+                candidates.retainAll(terms);
+            }
+        }
+        if (candidates == null) {
+            return Set.of();
+        }
+        candidates.removeIf(term -> !term.contains(queryTerm));
+        return candidates;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        List<Project> projects = projectRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            trigrams.clear();
+            projects.forEach(this::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Project search index built with {} projects and {} terms", projects.size(), postings.size());
+    }
+
+    private void add(Project project) {
+        Map<String, Float> termWeights = new HashMap<>();
+        addField(termWeights, project.getTitle(), TITLE_WEIGHT);
+        if (project.getTechnologies() != null) {
+            project.getTechnologies().forEach(technology -> addField(termWeights, technology, TECHNOLOGY_WEIGHT));
+        }
+        addField(termWeights, project.getDescription(), DESCRIPTION_WEIGHT);
+
+        documents.put(project.getId(), new IndexedProject(project.getId(), project.getCategory(),
+                project.isFeatured(), project.getCreatedAt(), termWeights.keySet()));
+
+        termWeights.forEach((term, weight) -> {
+            Map<String, Float> posting = postings.get(term);
+            if (posting == null) {
+                posting = new HashMap<>();
+                postings.put(term, posting);
+                for (String gram : trigramsOf(term)) {
+                    trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(term);
+                }
+            }
+            posting.put(project.getId(), weight);
+        });
+    }
+
+    private void remove(String id) {
+        IndexedProject document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<String, Float> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String gram : trigramsOf(term)) {
+                    Set<String> terms = trigrams.get(gram);
+                    if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                        trigrams.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> termWeights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            termWeights.merge(term, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#.]+")) {
+            String term = stripDots(token);
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String stripDots(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        return token.substring(start, end);
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record IndexedProject(String id, String category, boolean featured,
+                                  LocalDateTime createdAt, Set<String> terms) {
+    }
+}
@@ -1,63 +1,142 @@
 package com.bikash.portfolio_backend.service;
 
+import com.bikash.portfolio_backend.config.CacheConfig;
 import com.bikash.portfolio_backend.dto.project.CreateProjectRequest;
+import com.bikash.portfolio_backend.dto.project.ProjectCursorResponse;
 import com.bikash.portfolio_backend.dto.project.ProjectDto;
+import com.bikash.portfolio_backend.dto.project.ProjectImportResponse;
 import com.bikash.portfolio_backend.dto.project.ProjectResponse;
 import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.exception.BadRequestException;
 import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
+import com.bikash.portfolio_backend.repository.ProjectFilter;
 import com.bikash.portfolio_backend.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSlugDirectory projectSlugDirectory;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionService contentVersionService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public ProjectResponse getAllProjects(int page, int limit, String category, Boolean featured, String search) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Project> projectPage;
+    @Value("${app.projects.import-batch-size:200}")
+    private int importBatchSize;
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            projectRepository.ensureCursorIndex();
+        } catch (Exception e) {
+            log.warn("Could not ensure project cursor index: {}", e.getMessage());
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
+    public ProjectResponse getAllProjects(int page, int limit, String category, Boolean featured, String search,
+                                          Set<String> fields) {
         if (search != null && !search.trim().isEmpty()) {
-            if (category != null && featured != null) {
-                projectPage = projectRepository.findBySearchTermAndCategoryAndFeatured(search, category, featured, pageable);
-            } else if (category != null) {
-                projectPage = projectRepository.findBySearchTermAndCategory(search, category, pageable);
-            } else if (featured != null) {
-                projectPage = projectRepository.findBySearchTermAndFeatured(search, featured, pageable);
-            } else {
-                projectPage = projectRepository.findBySearchTerm(search, pageable);
-            }
-        } else {
-            if (category != null && featured != null) {
-                projectPage = projectRepository.findByCategoryAndFeatured(category, featured, pageable);
-            } else if (category != null) {
-                projectPage = projectRepository.findByCategoryWithPagination(category, pageable);
-            } else if (featured != null) {
-                projectPage = projectRepository.findByFeaturedWithPagination(featured, pageable);
-            } else {
-                projectPage = projectRepository.findAll(pageable);
-            }
+            return toRankedResponse(projectSearchIndex.search(search, category, featured), listFields(fields), page, limit);
         }
 
-        List<ProjectDto> projects = projectPage.getContent().stream()
-                .map(ProjectDto::fromProject)
-                .collect(Collectors.toList());
+        ProjectFilter filter = ProjectFilter.builder()
+                .category(category)
+                .featured(featured)
+                .build();
+        return toPagedResponse(projectRepository.findList(filter, listFields(fields), newestFirst(page, limit)), page, limit);
+    }
 
-        return ProjectResponse.builder()
-                .projects(projects)
-                .total(projectPage.getTotalElements())
-                .page(page)
+    /**
+     * Keyset variant of {@link #getAllProjects}: pages by an opaque cursor over
+     * {@code createdAt} and {@code _id} instead of skip, and only counts the
+     * matching projects when {@code includeTotal} is set.
+     */
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
+    public ProjectCursorResponse getProjectsAfter(String after, int limit, String category, Boolean featured,
+                                                  String search, boolean includeTotal, Set<String> fields) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+
+        ProjectFilter.ProjectFilterBuilder filter = ProjectFilter.builder()
+                .category(category)
+                .featured(featured);
+        if (search != null && !search.trim().isEmpty()) {
+            filter.ids(projectSearchIndex.search(search, category, featured));
+        }
+
+        LocalDateTime afterCreatedAt = null;
+        String afterId = null;
+        if (after != null && !after.isEmpty()) {
+            String[] position = decodeCursor(after);
+            afterCreatedAt = LocalDateTime.parse(position[0]);
+            afterId = position[1];
+        }
+
+        List<Project> page = projectRepository.findListAfter(filter.build(), listFields(fields), afterCreatedAt, afterId, limit + 1);
+        boolean hasMore = page.size() > limit;
+        if (hasMore) {
+            page = page.subList(0, limit);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Project last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return ProjectCursorResponse.builder()
+                .projects(page.stream().map(ProjectDto::fromProject).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
                 .limit(limit)
-                .totalPages(projectPage.getTotalPages())
+                .total(includeTotal ? projectRepository.countMatching(filter.build()) : null)
                 .build();
     }
 
@@ -67,6 +146,7 @@ public class ProjectService {
         return ProjectDto.fromProject(project);
     }
 
+    @Cacheable(cacheNames = CacheConfig.PROJECT_BY_SLUG, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
     public ProjectDto getProjectBySlug(String slug) {
         Project project = projectRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with slug: " + slug));
@@ -74,27 +154,14 @@ public class ProjectService {
     }
 
     public ProjectDto createProject(CreateProjectRequest request) {
-        if (projectRepository.existsBySlug(request.getSlug())) {
+        if (projectSlugDirectory.exists(request.getSlug())) {
             throw new IllegalArgumentException("Project with slug '" + request.getSlug() + "' already exists");
         }
 
-        Project project = Project.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .longDescription(request.getLongDescription())
-                .image(request.getImage())
-                .technologies(request.getTechnologies())
-                .githubUrl(request.getGithubUrl())
-                .liveUrl(request.getLiveUrl())
-                .features(request.getFeatures())
-                .slug(request.getSlug())
-                .category(request.getCategory())
-                .featured(request.isFeatured())
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .build();
+        Project project = toProject(request);
 
-        Project savedProject = projectRepository.save(project);
+        Project savedProject = save(project);
+        afterWrite(ProjectChangedEvent.created(savedProject));
         return ProjectDto.fromProject(savedProject);
     }
 
@@ -102,8 +169,10 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
+        Project previous = project.toBuilder().build();
+
         // Check if slug is being changed and if it already exists
-        if (!project.getSlug().equals(request.getSlug()) && projectRepository.existsBySlug(request.getSlug())) {
+        if (!project.getSlug().equals(request.getSlug()) && projectSlugDirectory.exists(request.getSlug())) {
             throw new IllegalArgumentException("Project with slug '" + request.getSlug() + "' already exists");
         }
 
@@ -121,45 +190,139 @@ public class ProjectService {
         project.setStartDate(request.getStartDate());
         project.setEndDate(request.getEndDate());
 
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = save(project);
+        afterWrite(ProjectChangedEvent.updated(previous, updatedProject));
         return ProjectDto.fromProject(updatedProject);
     }
 
     public void deleteProject(String id) {
-        if (!projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project not found with id: " + id);
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        projectRepository.delete(project);
+        afterWrite(ProjectChangedEvent.deleted(project));
+    }
+
+    /**
+     * Creates projects from an NDJSON body, one {@link CreateProjectRequest} per
+     * line. Records are parsed one at a time and inserted in batches of
+     * {@code app.projects.import-batch-size}, so the body is never held in
+     * memory. Invalid records and slugs that already exist are reported and
+     * skipped; a malformed line ends the import, since parsing cannot resume.
+     */
+    public ProjectImportResponse importProjects(InputStream body) throws IOException {
+        List<ProjectImportResponse.ImportError> errors = new ArrayList<>();
+        List<Project> batch = new ArrayList<>(importBatchSize);
+        List<Integer> batchRecords = new ArrayList<>(importBatchSize);
+        Set<String> importedSlugs = new HashSet<>();
+        int imported = 0;
+        int record = 0;
+
+        try (MappingIterator<CreateProjectRequest> requests =
+                     objectMapper.readerFor(CreateProjectRequest.class).readValues(body)) {
+            while (true) {
+                CreateProjectRequest request;
+                // Counted before reading, so a parse error is reported against the record that failed
+                record++;
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    request = requests.nextValue();
+                } catch (JsonParseException e) {
+                    errors.add(importError(record, null, "Malformed JSON at line " + e.getLocation().getLineNr()
+                            + ", import stopped: " + e.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException e) {
+                    errors.add(importError(record, null, "Invalid record: " + e.getOriginalMessage()));
+                    continue;
+                }
+
+                String error = validate(request);
+                if (error == null && (projectSlugDirectory.exists(request.getSlug()) || !importedSlugs.add(request.getSlug()))) {
+                    error = "Project with slug '" + request.getSlug() + "' already exists";
+                }
+                if (error != null) {
+                    errors.add(importError(record, request.getSlug(), error));
+                    continue;
+                }
+
+                batch.add(toProject(request));
+                batchRecords.add(record);
+                if (batch.size() >= importBatchSize) {
+                    imported += insertBatch(batch, batchRecords, errors);
+                }
+            }
+        } finally {
+            imported += insertBatch(batch, batchRecords, errors);
+            if (imported > 0) {
+                afterWrite(ProjectChangedEvent.reloaded());
+            }
+        }
+
+        return ProjectImportResponse.builder()
+                .imported(imported)
+                .failed(errors.size())
+                .errors(errors)
+                .message("Project import processed")
+                .build();
+    }
+
+    /**
+     * Writes every project as one NDJSON line, straight from a Mongo cursor.
+     */
+    public void exportProjects(OutputStream out) throws IOException {
+        try (Stream<Project> projects = projectRepository.streamAll();
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            for (Project project : (Iterable<Project>) projects::iterator) {
+                writer.write(ProjectDto.fromProject(project));
+            }
         }
-        projectRepository.deleteById(id);
     }
 
-    public List<ProjectDto> getFeaturedProjects() {
-        List<Project> featuredProjects = projectRepository.findByFeaturedTrueOrderByCreatedAtDesc();
+    @Cacheable(cacheNames = CacheConfig.FEATURED_PROJECTS, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
+    public List<ProjectDto> getFeaturedProjects(Set<String> fields) {
+        ProjectFilter filter = ProjectFilter.builder().featured(true).build();
+        List<Project> featuredProjects = projectRepository.findList(filter, fields, Sort.by(Sort.Direction.DESC, "createdAt"));
         return featuredProjects.stream()
                 .map(ProjectDto::fromProject)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
     public ProjectResponse getProjectsByCategory(String category, int page, int limit) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Project> projectPage = projectRepository.findByCategoryWithPagination(category, pageable);
+        ProjectFilter filter = ProjectFilter.builder().category(category).build();
+        return toPagedResponse(projectRepository.findList(filter, null, newestFirst(page, limit)), page, limit);
+    }
 
-        List<ProjectDto> projects = projectPage.getContent().stream()
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES, keyGenerator = CacheConfig.PROJECT_KEY_GENERATOR)
+    public ProjectResponse searchProjects(String query, int page, int limit) {
+        return toRankedResponse(projectSearchIndex.search(query, null, null), null, page, limit);
+    }
+
+    private ProjectResponse toRankedResponse(List<String> rankedIds, Set<String> fields, int page, int limit) {
+        int from = Math.min(Math.max(page - 1, 0) * limit, rankedIds.size());
+        int to = Math.min(from + limit, rankedIds.size());
+        List<String> pageIds = rankedIds.subList(from, to);
+
+        ProjectFilter filter = ProjectFilter.builder().ids(pageIds).build();
+        Map<String, Project> projectsById = projectRepository.findList(filter, fields, Sort.unsorted()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectDto> projects = pageIds.stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
                 .map(ProjectDto::fromProject)
                 .collect(Collectors.toList());
 
         return ProjectResponse.builder()
                 .projects(projects)
-                .total(projectPage.getTotalElements())
+                .total(rankedIds.size())
                 .page(page)
                 .limit(limit)
-                .totalPages(projectPage.getTotalPages())
+                .totalPages((rankedIds.size() + limit - 1) / limit)
                 .build();
     }
 
-    public ProjectResponse searchProjects(String query, int page, int limit) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Project> projectPage = projectRepository.findBySearchTerm(query, pageable);
-
+    private ProjectResponse toPagedResponse(Page<Project> projectPage, int page, int limit) {
         List<ProjectDto> projects = projectPage.getContent().stream()
                 .map(ProjectDto::fromProject)
                 .collect(Collectors.toList());
@@ -172,4 +335,113 @@ public class ProjectService {
                 .totalPages(projectPage.getTotalPages())
                 .build();
     }
-} 
\ No newline at end of file
+
+    /** {@code GET /projects} returns the list view unless the client picked its fields. */
+    private static Set<String> listFields(Set<String> fields) {
+        return fields != null ? fields : ProjectRepository.LIST_VIEW_FIELDS;
+    }
+
+    private static Pageable newestFirst(int page, int limit) {
+        return PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, String id) {
+        String position = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length == 2 && !parts[1].isEmpty()) {
+                LocalDateTime.parse(parts[0]);
+                return parts;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // reported below
+        }
+        throw new BadRequestException("Invalid cursor: " + cursor);
+    }
+
+    private Project toProject(CreateProjectRequest request) {
+        return Project.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .longDescription(request.getLongDescription())
+                .image(request.getImage())
+                .technologies(request.getTechnologies())
+                .githubUrl(request.getGithubUrl())
+                .liveUrl(request.getLiveUrl())
+                .features(request.getFeatures())
+                .slug(request.getSlug())
+                .category(request.getCategory())
+                .featured(request.isFeatured())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+    }
+
+    private String validate(CreateProjectRequest request) {
+        if (request == null) {
+            return "Project is required";
+        }
+        Set<ConstraintViolation<CreateProjectRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private int insertBatch(List<Project> batch, List<Integer> batchRecords,
+                            List<ProjectImportResponse.ImportError> errors) {
+        Map<Integer, String> failures = projectRepository.bulkInsert(batch);
+        failures.forEach((index, error) -> errors.add(importError(batchRecords.get(index), batch.get(index).getSlug(), error)));
+        int inserted = batch.size() - failures.size();
+        batch.clear();
+        batchRecords.clear();
+        return inserted;
+    }
+
+    private static ProjectImportResponse.ImportError importError(int record, String slug, String error) {
+        return ProjectImportResponse.ImportError.builder()
+                .record(record)
+                .slug(slug)
+                .error(error)
+                .build();
+    }
+
+    private Project save(Project project) {
+        try {
+            return projectRepository.save(project);
+        } catch (DuplicateKeyException e) {
+            // Lost a race with a concurrent write of the same slug
+            throw new IllegalArgumentException("Project with slug '" + project.getSlug() + "' already exists");
+        }
+    }
+
+    /**
+     * Propagates a persisted write: in-memory indexes first, then the content
+     * version. Cache keys include the version, so bumping it is what retires the
+     * cached responses, including any that a read started before the write puts
+     * back afterwards; clearing the caches only frees their memory.
+     */
+    private void afterWrite(ProjectChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        contentVersionService.bump(ContentVersionService.Content.PROJECTS);
+
+        clearCache(CacheConfig.PROJECT_PAGES);
+        clearCache(CacheConfig.FEATURED_PROJECTS);
+        clearCache(CacheConfig.PROJECT_BY_SLUG);
+    }
+
+    private void clearCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.repository.ProjectFilter;
+import com.bikash.portfolio_backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory slug to id map for projects, so slug existence checks on create,
+ * update and import never reach Mongo. The unique index on {@code slug} remains
+ * the source of truth for concurrent creates; until the directory has loaded,
+ * checks fall back to repository queries. Lookups by slug go to Mongo, behind
+ * the project cache. {@code projects.slug_directory.saved_queries} counts the
+ * Mongo round trips answered from memory.
+ */
+@Component
+@Slf4j
+public class ProjectSlugDirectory {
+
+    private final ProjectRepository projectRepository;
+    private final Counter savedExistsQueries;
+
+    private final Map<String, String> idsBySlug = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public ProjectSlugDirectory(ProjectRepository projectRepository, MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.savedExistsQueries = Counter.builder("projects.slug_directory.saved_queries")
+                .description("Mongo queries answered by the in-memory slug directory")
+                .tag("operation", "exists")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            projectRepository.ensureUniqueSlugIndex();
+        } catch (Exception e) {
+            log.warn("Could not ensure unique index on project slug: {}", e.getMessage());
+        }
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("Project slug directory not loaded at startup, falling back to Mongo checks: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        if (event.isReload()) {
+            load();
+            return;
+        }
+        if (event.getBefore() != null) {
+            idsBySlug.remove(event.getBefore().getSlug(), event.getBefore().getId());
+        }
+        if (event.getAfter() != null) {
+            idsBySlug.put(event.getAfter().getSlug(), event.getAfter().getId());
+        }
+    }
+
+    public boolean exists(String slug) {
+        if (!loaded) {
+            return projectRepository.existsBySlug(slug);
+        }
+        savedExistsQueries.increment();
+        return idsBySlug.containsKey(slug);
+    }
+
+    private synchronized void load() {
+        List<Project> projects = projectRepository.findList(ProjectFilter.builder().build(), Set.of("slug"), Sort.unsorted());
+        idsBySlug.clear();
+        projects.forEach(project -> idsBySlug.put(project.getSlug(), project.getId()));
+        loaded = true;
+        log.info("Project slug directory loaded with {} slugs", idsBySlug.size());
+    }
+}
@@ -0,0 +1,204 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.project.ProjectDto;
+import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
+import com.bikash.portfolio_backend.repository.ProjectFilter;
+import com.bikash.portfolio_backend.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed top-K related projects per project. Similarity is the Jaccard
+ * index of the technology sets, weighted with a bonus for sharing a category.
+ * A write recomputes the changed project's list in full and only patches the
+ * lists of other projects, recomputing one of those only when the changed
+ * project drops out of it. A reload builds a new index and swaps it in, so
+ * reads never see it half built. Reads never touch Mongo.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedProjectsIndex {
+
+    private static final double TECHNOLOGY_WEIGHT = 0.8;
+    private static final double CATEGORY_WEIGHT = 0.2;
+
+    private static final Comparator<Related> BY_SCORE = Comparator.comparingDouble(Related::score).reversed()
+            .thenComparing(Related::id);
+
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.projects.related-limit:4}")
+    private int relatedLimit;
+
+    private volatile Index index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Related projects index not built at startup, will retry on first request: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        Index current = index;
+        if (current == null) {
+            return;
+        }
+        if (event.isReload()) {
+            rebuild();
+            return;
+        }
+        if (event.getBefore() != null) {
+            remove(current, event.getBefore().getId());
+        }
+        if (event.getAfter() != null) {
+            add(current, toNode(event.getAfter()));
+        }
+    }
+
+    public List<ProjectDto> getRelated(String slug) {
+        Index current = index != null ? index : load();
+        String id = current.idsBySlug().get(slug);
+        if (id == null) {
+            throw new ResourceNotFoundException("Project not found with slug: " + slug);
+        }
+        return current.related().getOrDefault(id, List.of()).stream()
+                .map(entry -> current.nodes().get(entry.id()))
+                .filter(Objects::nonNull)
+                .map(Node::project)
+                .collect(Collectors.toList());
+    }
+
+    /** Builds the index unless a concurrent first request already has. */
+    private synchronized Index load() {
+        return index != null ? index : rebuild();
+    }
+
+    private synchronized Index rebuild() {
+        List<Project> projects = projectRepository.findList(ProjectFilter.builder().build(), ProjectRepository.LIST_VIEW_FIELDS, Sort.unsorted());
+        Index rebuilt = new Index(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        projects.forEach(project -> {
+            Node node = toNode(project);
+            rebuilt.nodes().put(node.id(), node);
+            rebuilt.idsBySlug().put(node.slug(), node.id());
+        });
+        rebuilt.nodes().values().forEach(node -> rebuilt.related().put(node.id(), computeRelated(rebuilt, node)));
+        index = rebuilt;
+        log.info("Related projects index built for {} projects", rebuilt.nodes().size());
+        return rebuilt;
+    }
+
+    private void add(Index snapshot, Node node) {
+        Map<String, List<Related>> related = snapshot.related();
+        snapshot.nodes().put(node.id(), node);
+        snapshot.idsBySlug().put(node.slug(), node.id());
+        related.put(node.id(), computeRelated(snapshot, node));
+
+        for (Node other : snapshot.nodes().values()) {
+            if (other.id().equals(node.id())) {
+                continue;
+            }
+            double score = similarity(other, node);
+            if (score <= 0) {
+                continue;
+            }
+            List<Related> current = related.getOrDefault(other.id(), List.of());
+            if (current.size() < relatedLimit || score > current.get(current.size() - 1).score()) {
+                List<Related> updated = new ArrayList<>(current);
+                updated.add(new Related(node.id(), score));
+                updated.sort(BY_SCORE);
+                related.put(other.id(), List.copyOf(updated.subList(0, Math.min(relatedLimit, updated.size()))));
+            }
+        }
+    }
+
+    private void remove(Index snapshot, String id) {
+        Node node = snapshot.nodes().remove(id);
+        if (node == null) {
+            return;
+        }
+        snapshot.idsBySlug().remove(node.slug(), id);
+        snapshot.related().remove(id);
+
+        for (Map.Entry<String, List<Related>> entry : snapshot.related().entrySet()) {
+            boolean affected = entry.getValue().stream().anyMatch(candidate -> candidate.id().equals(id));
+            if (affected) {
+                entry.setValue(computeRelated(snapshot, snapshot.nodes().get(entry.getKey())));
+            }
+        }
+    }
+
+    private List<Related> computeRelated(Index snapshot, Node node) {
+        return snapshot.nodes().values().stream()
+                .filter(other -> !other.id().equals(node.id()))
+                .map(other -> new Related(other.id(), similarity(node, other)))
+                .filter(candidate -> candidate.score() > 0)
+                .sorted(BY_SCORE)
+                .limit(relatedLimit)
+                .toList();
+    }
+
+    private static double similarity(Node a, Node b) {
+        double technologyScore = 0;
+        if (!a.technologies().isEmpty() && !b.technologies().isEmpty()) {
+            int shared = 0;
+            for (String technology : a.technologies()) {
+                if (b.technologies().contains(technology)) {
+                    shared++;
+                }
+            }
+            int union = a.technologies().size() + b.technologies().size() - shared;
+            technologyScore = (double) shared / union;
+        }
+        double categoryScore = a.category() != null && a.category().equalsIgnoreCase(b.category()) ? 1 : 0;
+        return TECHNOLOGY_WEIGHT * technologyScore + CATEGORY_WEIGHT * categoryScore;
+    }
+
+    private static Node toNode(Project project) {
+        Set<String> technologies = new HashSet<>();
+        if (project.getTechnologies() != null) {
+            project.getTechnologies().stream()
+                    .filter(Objects::nonNull)
+                    .forEach(technology -> technologies.add(technology.trim().toLowerCase(Locale.ROOT)));
+        }
+        ProjectDto listView = ProjectDto.fromProject(project);
+        listView.setLongDescription(null);
+        listView.setFeatures(null);
+        return new Node(project.getId(), project.getSlug(), project.getCategory(), Set.copyOf(technologies), listView);
+    }
+
+    /**
+     * Maps are updated in place for single-project writes and replaced as a
+     * whole on reload.
+     */
+    private record Index(Map<String, Node> nodes, Map<String, String> idsBySlug, Map<String, List<Related>> related) {
+    }
+
+    private record Node(String id, String slug, String category, Set<String> technologies, ProjectDto project) {
+    }
+
+    private record Related(String id, double score) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.bikash.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serialized JSON of hot public responses, plus a gzip copy, so repeat
+ * requests skip DTO mapping, Jackson and compression entirely. A snapshot is
+ * stamped with the content version it was built under and is rebuilt on the
+ * first request after that version is bumped by a write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseSnapshotService {
+
+    private final ObjectMapper objectMapper;
+    private final ContentVersionService contentVersionService;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public Snapshot get(String key, ContentVersionService.Content content, Supplier<?> body) {
+        String version = contentVersionService.currentVersion(content);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.version().equals(version)) {
+            return snapshot;
+        }
+        // Concurrent misses for the same key wait for a single rebuild
+        return snapshots.compute(key, (k, current) ->
+                current != null && current.version().equals(version) ? current : build(key, version, body));
+    }
+
+    private Snapshot build(String key, String version, Supplier<?> body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body.get());
+            byte[] gzip = gzip(json);
+            log.debug("Built response snapshot {} at version {} ({} bytes, {} gzipped)", key, version, json.length, gzip.length);
+            return new Snapshot(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response snapshot " + key, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record Snapshot(String version, byte[] json, byte[] gzip) {
+
+        /**
+         * Picks the gzip body when the client accepts it. Compressed bodies are
+         * a different representation, so a strong ETag set earlier in the
+         * request is downgraded to weak, which If-None-Match still matches.
+         */
+        public ResponseEntity<byte[]> toResponse(HttpServletRequest request, HttpServletResponse response) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            if (!acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                return builder.contentLength(json.length).body(json);
+            }
+
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(gzip.length)
+                    .body(gzip);
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (!parts[0].trim().equals("gzip") && !parts[0].trim().equals("*")) {
+                    continue;
+                }
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+            return false;
+        }
+    }
+}
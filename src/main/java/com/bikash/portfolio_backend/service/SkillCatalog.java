@@ -0,0 +1,150 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.skill.SkillDto;
+import com.bikash.portfolio_backend.entity.Skill;
+import com.bikash.portfolio_backend.event.SkillChangedEvent;
+import com.bikash.portfolio_backend.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Copy-on-write view of all skills. Every read works against one immutable
+ * {@link Snapshot} without locking; a write builds a new snapshot from the
+ * previous one plus the change and swaps it in with a single volatile store,
+ * so readers never see a half-applied update.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillCatalog {
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<SkillDto> BY_CATEGORY_AND_NAME = Comparator
+            .comparing(SkillDto::getCategory, NULLS_FIRST)
+            .thenComparing(SkillDto::getName, NULLS_FIRST);
+    private static final Skill.SkillLevel[] LEVELS_DESCENDING = {
+            Skill.SkillLevel.EXPERT, Skill.SkillLevel.ADVANCED, Skill.SkillLevel.INTERMEDIATE, Skill.SkillLevel.BEGINNER
+    };
+
+    private final SkillRepository skillRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            skillRepository.ensureNameIndex();
+        } catch (Exception e) {
+            log.warn("Could not ensure case-insensitive index on skill name: {}", e.getMessage());
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Skill catalog not loaded at startup, will retry on first read: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public synchronized void onSkillChanged(SkillChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (event.isReload()) {
+            reload();
+            return;
+        }
+        Map<String, SkillDto> skills = new HashMap<>(current.byId());
+        if (event.getBefore() != null) {
+            skills.remove(event.getBefore().getId());
+        }
+        if (event.getAfter() != null) {
+            skills.put(event.getAfter().getId(), SkillDto.fromSkill(event.getAfter()));
+        }
+        snapshot = Snapshot.of(skills.values());
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<SkillDto> skills = skillRepository.findAllOrderByCategoryAndName(null).stream()
+                .map(SkillDto::fromSkill)
+                .toList();
+        snapshot = Snapshot.of(skills);
+        log.info("Skill catalog loaded with {} skills", skills.size());
+        return snapshot;
+    }
+
+    /**
+     * One consistent generation of the catalog. All collections are unmodifiable.
+     */
+    public record Snapshot(Map<String, SkillDto> byId,
+                           List<SkillDto> skills,
+                           Map<String, List<SkillDto>> byCategory,
+                           List<SkillDto> featured,
+                           List<String> categories,
+                           Map<String, Map<Skill.SkillLevel, List<SkillDto>>> grouped,
+                           SkillSearchIndex searchIndex) {
+
+        static Snapshot of(Collection<SkillDto> skills) {
+            List<SkillDto> sorted = skills.stream().sorted(BY_CATEGORY_AND_NAME).toList();
+
+            Map<String, SkillDto> byId = sorted.stream()
+                    .collect(Collectors.toUnmodifiableMap(SkillDto::getId, skill -> skill));
+            // Sorted input keeps each category list ordered by name
+            Map<String, List<SkillDto>> byCategory = sorted.stream()
+                    .filter(skill -> skill.getCategory() != null)
+                    .collect(Collectors.groupingBy(SkillDto::getCategory, LinkedHashMap::new,
+                            Collectors.toUnmodifiableList()));
+            List<SkillDto> featured = sorted.stream().filter(SkillDto::isFeatured).toList();
+            List<String> categories = sorted.stream()
+                    .map(SkillDto::getCategory)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            return new Snapshot(byId, sorted, Collections.unmodifiableMap(byCategory), featured, categories,
+                    groupByLevel(byCategory), SkillSearchIndex.of(sorted));
+        }
+
+        private static Map<String, Map<Skill.SkillLevel, List<SkillDto>>> groupByLevel(
+                Map<String, List<SkillDto>> byCategory) {
+            Map<String, Map<Skill.SkillLevel, List<SkillDto>>> grouped = new LinkedHashMap<>();
+            byCategory.forEach((category, skills) -> {
+                Map<Skill.SkillLevel, List<SkillDto>> byLevel = new LinkedHashMap<>();
+                for (Skill.SkillLevel level : LEVELS_DESCENDING) {
+                    List<SkillDto> atLevel = skills.stream().filter(skill -> skill.getLevel() == level).toList();
+                    if (!atLevel.isEmpty()) {
+                        byLevel.put(level, atLevel);
+                    }
+                }
+                grouped.put(category, Collections.unmodifiableMap(byLevel));
+            });
+            return Collections.unmodifiableMap(grouped);
+        }
+
+        public List<SkillDto> byCategory(String category) {
+            return byCategory.getOrDefault(category, List.of());
+        }
+
+        public List<SkillDto> search(String query) {
+            return searchIndex.search(query);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.skill.SkillDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable typo-tolerant index over skill names and descriptions, built as part
+ * of each {@link SkillCatalog.Snapshot}. Query terms match indexed terms exactly,
+ * by prefix, anywhere inside a term, or within a small edit distance, with
+ * decreasing weight. Candidates for the infix and edit distance checks come from
+ * shared padded trigrams, so only a handful of terms are compared. All query
+ * terms must match for a skill to be returned.
+ */
+final class SkillSearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.7f;
+    private static final float INFIX_MATCH = 0.4f;
+    private static final float FUZZY_MATCH = 0.5f;
+
+    private final List<SkillDto> skills;
+    private final String[] terms;
+    private final List<Map<Integer, Float>> postings;
+    private final Map<String, int[]> trigrams;
+
+    private SkillSearchIndex(List<SkillDto> skills, String[] terms, List<Map<Integer, Float>> postings,
+                             Map<String, int[]> trigrams) {
+        this.skills = skills;
+        this.terms = terms;
+        this.postings = postings;
+        this.trigrams = trigrams;
+    }
+
+    static SkillSearchIndex of(List<SkillDto> skills) {
+        Map<String, Map<Integer, Float>> termPostings = new HashMap<>();
+        for (int i = 0; i < skills.size(); i++) {
+            SkillDto skill = skills.get(i);
+            addField(termPostings, i, skill.getName(), NAME_WEIGHT);
+            addField(termPostings, i, skill.getDescription(), DESCRIPTION_WEIGHT);
+        }
+
+        // Sorted terms allow prefix matches by binary search
+        String[] terms = termPostings.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+
+        List<Map<Integer, Float>> postings = new ArrayList<>(terms.length);
+        Map<String, List<Integer>> gramTerms = new HashMap<>();
+        for (int id = 0; id < terms.length; id++) {
+            postings.add(Map.copyOf(termPostings.get(terms[id])));
+            for (String gram : trigramsOf(terms[id])) {
+                gramTerms.computeIfAbsent(gram, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        Map<String, int[]> trigrams = new HashMap<>();
+        gramTerms.forEach((gram, ids) -> trigrams.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return new SkillSearchIndex(List.copyOf(skills), terms, List.copyOf(postings), Map.copyOf(trigrams));
+    }
+
+    /**
+     * Returns matching skills, best match first and by name on ties.
+     */
+    List<SkillDto> search(String query) {
+        List<String> queryTerms = ProjectSearchIndex.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Float> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Integer, Float> termScores = scoreTerm(queryTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((skill, score) -> score + termScores.get(skill));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Map<Integer, Float> finalScores = scores;
+        return scores.keySet().stream()
+                .sorted(Comparator.<Integer>comparingDouble(finalScores::get).reversed()
+                        .thenComparing(skill -> skills.get(skill).getName(),
+                                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .map(skills::get)
+                .toList();
+    }
+
+    private Map<Integer, Float> scoreTerm(String queryTerm) {
+        Map<Integer, Float> scores = new HashMap<>();
+
+        int start = Arrays.binarySearch(terms, queryTerm);
+        for (int id = start >= 0 ? start : -start - 1; id < terms.length && terms[id].startsWith(queryTerm); id++) {
+            accumulate(scores, id, terms[id].equals(queryTerm) ? EXACT_MATCH : PREFIX_MATCH);
+        }
+
+        Set<Integer> infixes = infixCandidates(queryTerm);
+        for (int id : infixes) {
+            accumulate(scores, id, INFIX_MATCH);
+        }
+
+        int maxEdits = maxEdits(queryTerm);
+        if (maxEdits == 0) {
+            return scores;
+        }
+        for (int id : fuzzyCandidates(queryTerm, maxEdits)) {
+            String term = terms[id];
+            if (term.startsWith(queryTerm) || infixes.contains(id)) {
+                continue;
+            }
+            int distance = editDistance(queryTerm, term, maxEdits);
+            if (distance <= maxEdits) {
+                accumulate(scores, id, FUZZY_MATCH * (1 - (float) distance / (maxEdits + 1)));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Terms containing the query term other than at their start. Only terms
+     * with the query term's rarest trigram are checked; query terms shorter than
+     * a trigram have nothing to narrow by, so every term is.
+     */
+    private Set<Integer> infixCandidates(String queryTerm) {
+        Set<Integer> candidates = new HashSet<>();
+        if (queryTerm.length() < 3) {
+            for (int id = 0; id < terms.length; id++) {
+                if (terms[id].indexOf(queryTerm, 1) > 0) {
+                    candidates.add(id);
+                }
+            }
+            return candidates;
+        }
+
+        int[] narrowest = null;
+        for (int i = 0; i + 3 <= queryTerm.length(); i++) {
+            int[] ids = trigrams.get(queryTerm.substring(i, i + 3));
+            if (ids == null) {
+                return Set.of();
+            }
+            if (narrowest == null || ids.length < narrowest.length) {
+                narrowest = ids;
+            }
+        }
+        for (int id : narrowest) {
+            if (terms[id].indexOf(queryTerm, 1) > 0) {
+                candidates.add(id);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Terms sharing enough padded trigrams with the query term to possibly be
+     * within {@code maxEdits}; each edit removes at most three trigrams.
+     */
+    private Set<Integer> fuzzyCandidates(String queryTerm, int maxEdits) {
+        Set<String> grams = trigramsOf(queryTerm);
+        int required = Math.max(1, grams.size() - 3 * maxEdits);
+
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            int[] ids = trigrams.get(gram);
+            if (ids != null) {
+                for (int id : ids) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+
+        Set<Integer> candidates = new HashSet<>();
+        shared.forEach((id, count) -> {
+            if (count >= required && Math.abs(terms[id].length() - queryTerm.length()) <= maxEdits) {
+                candidates.add(id);
+            }
+        });
+        return candidates;
+    }
+
+    private void accumulate(Map<Integer, Float> scores, int termId, float factor) {
+        postings.get(termId).forEach((skill, weight) -> scores.merge(skill, weight * factor, Math::max));
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() < 4) {
+            return 0;
+        }
+        return term.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Optimal string alignment distance, so a transposition counts as one edit.
+     * Returns {@code limit + 1} as soon as the distance is known to exceed it.
+     */
+    static int editDistance(String a, String b, int limit) {
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private static void addField(Map<String, Map<Integer, Float>> termPostings, int skill, String text, float weight) {
+        for (String term : ProjectSearchIndex.tokenize(text)) {
+            termPostings.computeIfAbsent(term, key -> new HashMap<>()).merge(skill, weight, Math::max);
+        }
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = "$$" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
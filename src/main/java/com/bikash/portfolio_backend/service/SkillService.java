@@ -1,16 +1,29 @@
 package com.bikash.portfolio_backend.service;
 
+import com.bikash.portfolio_backend.dto.skill.BulkSkillResponse;
 import com.bikash.portfolio_backend.dto.skill.CreateSkillRequest;
+import com.bikash.portfolio_backend.dto.skill.GroupedSkillsResponse;
 import com.bikash.portfolio_backend.dto.skill.SkillDto;
 import com.bikash.portfolio_backend.dto.skill.UpdateSkillRequest;
 import com.bikash.portfolio_backend.entity.Skill;
+import com.bikash.portfolio_backend.event.SkillChangedEvent;
 import com.bikash.portfolio_backend.exception.AuthenticationException;
+import com.bikash.portfolio_backend.exception.BadRequestException;
 import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
 import com.bikash.portfolio_backend.repository.SkillRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,26 +31,33 @@ import java.util.stream.Collectors;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final SkillCatalog skillCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionService contentVersionService;
+    private final Validator validator;
+
+    @Value("${app.skills.bulk-max-items:500}")
+    private int bulkMaxItems;
 
     public List<SkillDto> getAllSkills() {
-        List<Skill> skills = skillRepository.findAllByOrderByCategoryAscNameAsc();
-        return skills.stream()
-                .map(SkillDto::fromSkill)
-                .collect(Collectors.toList());
+        return skillCatalog.snapshot().skills();
     }
 
     public List<SkillDto> getSkillsByCategory(String category) {
-        List<Skill> skills = skillRepository.findByCategoryOrderByNameAsc(category);
-        return skills.stream()
-                .map(SkillDto::fromSkill)
-                .collect(Collectors.toList());
+        return skillCatalog.snapshot().byCategory(category);
     }
 
     public List<SkillDto> getFeaturedSkills() {
-        List<Skill> skills = skillRepository.findByFeatured(true);
-        return skills.stream()
-                .map(SkillDto::fromSkill)
-                .collect(Collectors.toList());
+        return skillCatalog.snapshot().featured();
+    }
+
+    public GroupedSkillsResponse getGroupedSkills() {
+        SkillCatalog.Snapshot snapshot = skillCatalog.snapshot();
+        return GroupedSkillsResponse.builder()
+                .groups(snapshot.grouped())
+                .message("Skills retrieved successfully")
+                .total(snapshot.skills().size())
+                .build();
     }
 
     public SkillDto getSkillById(String id) {
@@ -63,6 +83,7 @@ public class SkillService {
                 .build();
 
         Skill savedSkill = skillRepository.save(skill);
+        afterWrite(SkillChangedEvent.created(savedSkill));
         return SkillDto.fromSkill(savedSkill);
     }
 
@@ -70,6 +91,8 @@ public class SkillService {
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
 
+        Skill previous = skill.toBuilder().build();
+
         // Check if another skill with same name exists
         if (!skill.getName().equalsIgnoreCase(request.getName()) && 
             skillRepository.existsByNameIgnoreCase(request.getName())) {
@@ -88,6 +111,7 @@ public class SkillService {
         }
 
         Skill updatedSkill = skillRepository.save(skill);
+        afterWrite(SkillChangedEvent.updated(previous, updatedSkill));
         return SkillDto.fromSkill(updatedSkill);
     }
 
@@ -96,20 +120,123 @@ public class SkillService {
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
         
         skillRepository.delete(skill);
+        afterWrite(SkillChangedEvent.deleted(skill));
+    }
+
+    /**
+     * Creates or updates many skills at once, matching existing skills by name
+     * ignoring case. Invalid items and repeated names are reported without
+     * stopping the rest; all valid items go to Mongo in one unordered bulk write.
+     */
+    public BulkSkillResponse bulkUpsertSkills(List<CreateSkillRequest> requests) {
+        if (requests.size() > bulkMaxItems) {
+            throw new BadRequestException("At most " + bulkMaxItems + " skills can be imported at once");
+        }
+
+        List<BulkSkillResponse.ItemResult> results = new ArrayList<>(requests.size());
+        Map<String, Integer> firstIndexByName = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateSkillRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null && firstIndexByName.putIfAbsent(request.getName().toLowerCase(Locale.ROOT), i) != null) {
+                error = "Duplicate skill name '" + request.getName() + "' in request";
+            }
+            results.add(BulkSkillResponse.ItemResult.builder()
+                    .index(i)
+                    .name(request != null ? request.getName() : null)
+                    .status(error == null ? null : BulkSkillResponse.Status.FAILED)
+                    .error(error)
+                    .build());
+        }
+
+        Map<String, Skill> existingByName = new HashMap<>();
+        if (!firstIndexByName.isEmpty()) {
+            // One query for every name; the collation makes the lowercased keys match
+            skillRepository.findByNameInIgnoreCase(firstIndexByName.keySet())
+                    .forEach(skill -> existingByName.put(skill.getName().toLowerCase(Locale.ROOT), skill));
+        }
+
+        List<Skill> writes = new ArrayList<>();
+        List<BulkSkillResponse.ItemResult> written = new ArrayList<>();
+        for (BulkSkillResponse.ItemResult result : results) {
+            if (result.getStatus() != null) {
+                continue;
+            }
+            CreateSkillRequest request = requests.get(result.getIndex());
+            Skill skill = existingByName.get(request.getName().toLowerCase(Locale.ROOT));
+            if (skill == null) {
+                skill = Skill.builder().build();
+                result.setStatus(BulkSkillResponse.Status.CREATED);
+            } else {
+                result.setStatus(BulkSkillResponse.Status.UPDATED);
+            }
+            skill.setName(request.getName());
+            skill.setCategory(request.getCategory());
+            skill.setLevel(request.getLevel());
+            skill.setIcon(request.getIcon());
+            skill.setDescription(request.getDescription());
+            skill.setYearsOfExperience(request.getYearsOfExperience());
+            if (request.getFeatured() != null) {
+                skill.setFeatured(request.getFeatured());
+            }
+            writes.add(skill);
+            written.add(result);
+        }
+
+        Map<Integer, String> errors = skillRepository.bulkUpsert(writes);
+        for (int i = 0; i < written.size(); i++) {
+            BulkSkillResponse.ItemResult result = written.get(i);
+            String error = errors.get(i);
+            if (error != null) {
+                result.setStatus(BulkSkillResponse.Status.FAILED);
+                result.setError(error);
+            } else {
+                result.setId(writes.get(i).getId());
+            }
+        }
+        if (!writes.isEmpty()) {
+            afterWrite(SkillChangedEvent.reloaded());
+        }
+
+        Map<BulkSkillResponse.Status, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(BulkSkillResponse.ItemResult::getStatus, Collectors.counting()));
+        return BulkSkillResponse.builder()
+                .results(results)
+                .created(counts.getOrDefault(BulkSkillResponse.Status.CREATED, 0L).intValue())
+                .updated(counts.getOrDefault(BulkSkillResponse.Status.UPDATED, 0L).intValue())
+                .failed(counts.getOrDefault(BulkSkillResponse.Status.FAILED, 0L).intValue())
+                .message("Bulk import processed")
+                .build();
     }
 
     public List<String> getAllCategories() {
-        return skillRepository.findAll().stream()
-                .map(Skill::getCategory)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        return skillCatalog.snapshot().categories();
     }
 
     public List<SkillDto> searchSkills(String query) {
-        List<Skill> skills = skillRepository.findByNameContainingIgnoreCase(query);
-        return skills.stream()
-                .map(SkillDto::fromSkill)
-                .collect(Collectors.toList());
+        return skillCatalog.snapshot().search(query);
+    }
+
+    private String validate(CreateSkillRequest request) {
+        if (request == null) {
+            return "Skill is required";
+        }
+        Set<ConstraintViolation<CreateSkillRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Listeners such as the catalog apply the change synchronously, so the
+     * version is bumped only once every in-memory view reflects the write.
+     */
+    private void afterWrite(SkillChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        contentVersionService.bump(ContentVersionService.Content.SKILLS);
     }
-} 
\ No newline at end of file
+}
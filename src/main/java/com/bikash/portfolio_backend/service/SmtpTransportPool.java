@@ -0,0 +1,170 @@
+package com.bikash.portfolio_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps a few authenticated SMTP connections open to the relay, so sending a
+ * batch costs one connect and STARTTLS handshake per connection instead of per
+ * message. Connections are handed out most recently used first and checked
+ * with a NOOP after sitting idle. They are closed when idle too long, after a
+ * set number of messages, or after any error other than a rejected recipient.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+
+    @Value("${app.mail.pool.idle-timeout-millis:30000}")
+    private long idleTimeoutMillis;
+
+    @Value("${app.mail.pool.validate-after-idle-millis:2000}")
+    private long validateAfterIdleMillis;
+
+    @Value("${app.mail.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    private volatile boolean closed;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, @Value("${app.mail.pool.size:4}") int size) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(size);
+    }
+
+    /**
+     * Sends a message over a pooled connection. A connection the relay closed
+     * while it sat idle is replaced and the send is tried once more.
+     */
+    public void send(MimeMessage message) throws MessagingException, InterruptedException {
+        permits.acquire();
+        try {
+            message.saveChanges();
+            PooledTransport transport = borrow();
+            try {
+                transport.send(message);
+            } catch (SendFailedException e) {
+                release(transport);
+                throw e;
+            } catch (MessagingException e) {
+                transport.close();
+                if (!transport.fresh) {
+                    log.debug("Pooled SMTP connection failed, retrying on a new one: {}", e.getMessage());
+                    transport = connect();
+                    try {
+                        transport.send(message);
+                    } catch (MessagingException retryError) {
+                        transport.close();
+                        throw retryError;
+                    }
+                } else {
+                    throw e;
+                }
+            }
+            release(transport);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.pool.idle-timeout-millis:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> connections = idle.descendingIterator();
+        while (connections.hasNext()) {
+            PooledTransport transport = connections.next();
+            if (now - transport.lastUsed >= idleTimeoutMillis && idle.removeLastOccurrence(transport)) {
+                transport.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        for (PooledTransport transport = idle.pollFirst(); transport != null; transport = idle.pollFirst()) {
+            transport.close();
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        for (PooledTransport transport = idle.pollFirst(); transport != null; transport = idle.pollFirst()) {
+            long idleMillis = now - transport.lastUsed;
+            if (idleMillis < idleTimeoutMillis
+                    && (idleMillis < validateAfterIdleMillis || transport.transport.isConnected())) {
+                return transport;
+            }
+            transport.close();
+        }
+        return connect();
+    }
+
+    private void release(PooledTransport transport) {
+        if (closed || transport.sent >= maxMessagesPerConnection) {
+            transport.close();
+            return;
+        }
+        transport.fresh = false;
+        transport.lastUsed = System.currentTimeMillis();
+        idle.offerFirst(transport);
+    }
+
+    /** Connects the same way {@link JavaMailSenderImpl} does for a single send. */
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(
+                mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp");
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        log.debug("Opened pooled SMTP connection to {}", mailSender.getHost());
+        return new PooledTransport(transport);
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsed = System.currentTimeMillis();
+        /** True until the connection has been returned to the pool once. */
+        private boolean fresh = true;
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Error closing pooled SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+}
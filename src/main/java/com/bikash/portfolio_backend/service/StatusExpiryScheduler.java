@@ -0,0 +1,177 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.Status;
+import com.bikash.portfolio_backend.event.StatusChangedEvent;
+import com.bikash.portfolio_backend.repository.StatusRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deactivates statuses when their {@code expiresAt} passes, using a hashed
+ * timer wheel driven by one daemon thread. Scheduling and cancelling are O(1)
+ * and lock-free; each tick only touches the statuses hashed to its slot, and
+ * everything due in a tick is deactivated with a single multi-update. Active
+ * expiring statuses are loaded at startup so a restart does not lose timers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusExpiryScheduler {
+
+    private final StatusRepository statusRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.status.expiry-tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${app.status.expiry-wheel-size:512}")
+    private int wheelSize;
+
+    private final Map<String, Timeout> timeouts = new ConcurrentHashMap<>();
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        try {
+            statusRepository.findActiveExpiringStatuses().forEach(this::schedule);
+            log.info("Status expiry scheduler loaded {} expiring statuses", timeouts.size());
+        } catch (Exception e) {
+            log.warn("Could not load expiring statuses, relying on the safety sweep: {}", e.getMessage());
+        }
+        worker = new Thread(this::run, "status-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /**
+     * Schedules deactivation of an active status at its {@code expiresAt},
+     * replacing any earlier timer for the same status.
+     */
+    public void schedule(Status status) {
+        cancel(status.getId());
+        if (status.getExpiresAt() == null || !Boolean.TRUE.equals(status.getIsActive())) {
+            return;
+        }
+        long delayNanos = Math.max(0, Duration.between(LocalDateTime.now(), status.getExpiresAt()).toNanos());
+        Timeout timeout = new Timeout(status.getId(), System.nanoTime() - startNanos + delayNanos);
+        timeouts.put(status.getId(), timeout);
+        pending.add(timeout);
+    }
+
+    public void cancel(String statusId) {
+        Timeout timeout = timeouts.remove(statusId);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    private void run() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        int mask = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) * 2 - 1;
+        List<ArrayDeque<Timeout>> wheel = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++) {
+            wheel.add(new ArrayDeque<>());
+        }
+
+        long tick = (System.nanoTime() - startNanos) / tickNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            long sleepNanos = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            for (Timeout timeout = pending.poll(); timeout != null; timeout = pending.poll()) {
+                if (timeout.cancelled) {
+                    continue;
+                }
+                long dueTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+                timeout.rounds = (dueTick - tick) / (mask + 1);
+                wheel.get((int) (dueTick & mask)).add(timeout);
+            }
+
+            List<String> expired = new ArrayList<>();
+            Iterator<Timeout> slot = wheel.get((int) (tick & mask)).iterator();
+            while (slot.hasNext()) {
+                Timeout timeout = slot.next();
+                if (timeout.cancelled) {
+                    slot.remove();
+                } else if (timeout.rounds <= 0) {
+                    slot.remove();
+                    timeouts.remove(timeout.statusId, timeout);
+                    expired.add(timeout.statusId);
+                } else {
+                    timeout.rounds--;
+                }
+            }
+            tick++;
+
+            if (!expired.isEmpty()) {
+                expire(expired);
+            }
+        }
+    }
+
+    private void expire(List<String> statusIds) {
+        try {
+            // A tick fires up to one tick late but never early, so allow one tick of clock skew
+            long deactivated = statusRepository.deactivateExpired(statusIds, LocalDateTime.now().plusNanos(
+                    TimeUnit.MILLISECONDS.toNanos(tickMillis)));
+            if (deactivated > 0) {
+                eventPublisher.publishEvent(new StatusChangedEvent(StatusChangedEvent.Reason.EXPIRED));
+                log.info("Deactivated {} expired statuses", deactivated);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to deactivate expired statuses {}, relying on the safety sweep: {}", statusIds, e.getMessage());
+        }
+    }
+
+    private static final class Timeout {
+
+        private final String statusId;
+        /** Deadline relative to {@code startNanos}. */
+        private final long deadlineNanos;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timeout(String statusId, long deadlineNanos) {
+            this.statusId = statusId;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.bikash.portfolio_backend.dto.status.SetStatusRequest;
 import com.bikash.portfolio_backend.dto.status.StatusDto;
 import com.bikash.portfolio_backend.dto.status.UpdateStatusRequest;
 import com.bikash.portfolio_backend.entity.Status;
+import com.bikash.portfolio_backend.event.StatusChangedEvent;
 import com.bikash.portfolio_backend.exception.ResourceNotFoundException;
 import com.bikash.portfolio_backend.repository.StatusRepository;
+import com.bikash.portfolio_backend.repository.StatusRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,23 +34,25 @@ import java.util.stream.Collectors;
 public class StatusService {
 
     private final StatusRepository statusRepository;
+    private final StatusExpiryScheduler statusExpiryScheduler;
+    private final CurrentStatusCache currentStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // Expiry is handled by StatusExpiryScheduler; the filter only hides a status
+    // in the moment between its expiresAt and the scheduler's next tick
     public Optional<StatusDto> getCurrentStatus() {
-        deactivateExpiredStatuses();
-        return statusRepository.findActiveStatus()
-                .map(StatusDto::publicFromStatus);
+        return currentStatusCache.get(() -> statusRepository.findFirstByIsActiveTrueOrderByIdDesc()
+                .filter(StatusService::isUnexpired));
     }
 
     public Optional<StatusDto> getMyStatus(String userId) {
-        deactivateExpiredStatuses();
-        return statusRepository.findActiveStatusByUserId(userId)
+        return statusRepository.findFirstByUserIdAndIsActiveTrueOrderByIdDesc(userId)
+                .filter(StatusService::isUnexpired)
                 .map(StatusDto::fromStatus);
     }
 
     @Transactional
     public StatusDto setStatus(String userId, SetStatusRequest request) {
-        deactivateUserActiveStatuses(userId);
-
         LocalDateTime expiresAt = calculateExpirationTime(request.getClearAfter());
 
         Status status = Status.builder()
@@ -59,7 +64,12 @@ public class StatusService {
                 .expiresAt(expiresAt)
                 .build();
 
-        Status savedStatus = statusRepository.save(status);
+        // Insert first, then retire only older statuses: of two concurrent calls
+        // the newer status stays active, and there is never a moment with none
+        Status savedStatus = statusRepository.insert(status);
+        deactivate(statusRepository.deactivateActive(userId, savedStatus.getId()), "replaced for user " + userId);
+        statusExpiryScheduler.schedule(savedStatus);
+        eventPublisher.publishEvent(new StatusChangedEvent(StatusChangedEvent.Reason.SET));
         log.info("Status set for user {}: {}", userId, savedStatus.getMessage());
 
         return StatusDto.fromStatus(savedStatus);
@@ -84,6 +94,8 @@ public class StatusService {
         }
 
         Status updatedStatus = statusRepository.save(status);
+        statusExpiryScheduler.schedule(updatedStatus);
+        eventPublisher.publishEvent(new StatusChangedEvent(StatusChangedEvent.Reason.UPDATED));
         log.info("Status updated for user {}: {}", userId, updatedStatus.getId());
 
         return StatusDto.fromStatus(updatedStatus);
@@ -92,6 +104,7 @@ public class StatusService {
     @Transactional
     public void clearCurrentStatus(String userId) {
         deactivateUserActiveStatuses(userId);
+        eventPublisher.publishEvent(new StatusChangedEvent(StatusChangedEvent.Reason.CLEARED));
         log.info("Status cleared for user {}", userId);
     }
 
@@ -131,27 +144,34 @@ public class StatusService {
     }
 
     @Transactional
-    public void deactivateUserActiveStatuses(String userId) {
-        List<Status> activeStatuses = statusRepository.findActiveStatusesByUserId(userId);
-        activeStatuses.forEach(status -> status.setIsActive(false));
-        if (!activeStatuses.isEmpty()) {
-            statusRepository.saveAll(activeStatuses);
-        }
+    public long deactivateUserActiveStatuses(String userId) {
+        return deactivate(statusRepository.deactivateActive(userId, null), "cleared for user " + userId);
     }
 
-    @Scheduled(fixedRate = 60000) 
+    /**
+     * Safety net for expiries the scheduler missed, e.g. while Mongo was
+     * unreachable at the moment a status expired.
+     */
+    @Scheduled(fixedRateString = "${app.status.expiry-sweep-millis:900000}")
     @Transactional
     public void deactivateExpiredStatuses() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Status> expiredStatuses = statusRepository.findExpiredActiveStatuses(now);
-        
-        if (!expiredStatuses.isEmpty()) {
-            expiredStatuses.forEach(status -> status.setIsActive(false));
-            statusRepository.saveAll(expiredStatuses);
-            log.info("Deactivated {} expired statuses", expiredStatuses.size());
+        if (deactivate(statusRepository.deactivateExpired(LocalDateTime.now()), "expired") > 0) {
+            eventPublisher.publishEvent(new StatusChangedEvent(StatusChangedEvent.Reason.EXPIRED));
         }
     }
 
+    private long deactivate(StatusRepositoryCustom.Deactivation deactivation, String reason) {
+        deactivation.ids().forEach(statusExpiryScheduler::cancel);
+        if (deactivation.count() > 0) {
+            log.info("Deactivated {} statuses ({}): {}", deactivation.count(), reason, deactivation.ids());
+        }
+        return deactivation.count();
+    }
+
+    private static boolean isUnexpired(Status status) {
+        return status.getExpiresAt() == null || status.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
     @Scheduled(cron = "0 0 17 L * ?", zone="Asia/Kolkata")
     @Transactional
     public void cleanStatusHistory() {
@@ -0,0 +1,108 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.status.StatusDto;
+import com.bikash.portfolio_backend.event.StatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans public status changes out to every {@code /status/stream} subscriber
+ * from a single sink. The current status is read once per change, not once per
+ * subscriber. Each subscriber gets a small buffer that drops its oldest events
+ * when the client falls behind, since only the latest status matters, and a
+ * periodic comment keeps idle connections open through proxies. A subscriber
+ * joins the sink before its initial status is read, and events carry the
+ * change count they were read at, so an initial status that loses the race
+ * with a change is dropped rather than sent after it.
+ */
+@Component
+@Slf4j
+public class StatusStreamHub {
+
+    private static final String STATUS_EVENT = "status";
+    private static final String CLEARED_EVENT = "cleared";
+
+    private final StatusService statusService;
+    private final Duration heartbeat;
+    private final int bufferSize;
+
+    private final Sinks.Many<VersionedEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicLong version = new AtomicLong();
+
+    public StatusStreamHub(StatusService statusService,
+                           @Value("${app.status.stream-heartbeat-seconds:25}") long heartbeatSeconds,
+                           @Value("${app.status.stream-buffer-size:16}") int bufferSize) {
+        this.statusService = statusService;
+        this.heartbeat = Duration.ofSeconds(heartbeatSeconds);
+        this.bufferSize = bufferSize;
+    }
+
+    public Flux<ServerSentEvent<StatusDto>> stream() {
+        Flux<ServerSentEvent<StatusDto>> statuses = Flux.defer(() -> {
+            Flux<VersionedEvent> changes = sink.asFlux()
+                    .onBackpressureBuffer(bufferSize, dropped -> log.debug("Dropped status event for a slow subscriber"),
+                            BufferOverflowStrategy.DROP_OLDEST);
+            // The version is read before the status, so the status is at least as new as its version
+            Mono<VersionedEvent> initial = Mono.fromCallable(() -> {
+                        long current = version.get();
+                        return new VersionedEvent(current, toEvent(statusService.getCurrentStatus()));
+                    })
+                    .subscribeOn(Schedulers.boundedElastic());
+            AtomicLong latest = new AtomicLong(-1);
+            return Flux.merge(changes, initial)
+                    .filter(event -> event.version() >= latest.getAndAccumulate(event.version(), Math::max))
+                    .map(VersionedEvent::event);
+        });
+        Flux<ServerSentEvent<StatusDto>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<StatusDto>builder().comment("heartbeat").build())
+                .onBackpressureDrop();
+
+        return Flux.merge(statuses, heartbeats);
+    }
+
+    /**
+     * Runs after {@link CurrentStatusCache} has been invalidated for the same
+     * event, so the status read here is the new one.
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public synchronized void onStatusChanged(StatusChangedEvent event) {
+        long changed = version.incrementAndGet();
+        if (sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        try {
+            Sinks.EmitResult result = sink.tryEmitNext(
+                    new VersionedEvent(changed, toEvent(statusService.getCurrentStatus())));
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.warn("Failed to publish status change {}: {}", event.getReason(), result);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to publish status change {}: {}", event.getReason(), e.getMessage());
+        }
+    }
+
+    private static ServerSentEvent<StatusDto> toEvent(Optional<StatusDto> status) {
+        return status
+                .map(current -> ServerSentEvent.builder(current).event(STATUS_EVENT).build())
+                .orElseGet(() -> ServerSentEvent.<StatusDto>builder().event(CLEARED_EVENT).build());
+    }
+
+    /** An event and the number of status changes published before it was read. */
+    private record VersionedEvent(long version, ServerSentEvent<StatusDto> event) {
+    }
+}
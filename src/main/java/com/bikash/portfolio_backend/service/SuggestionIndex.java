@@ -0,0 +1,285 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.dto.search.SuggestionDto;
+import com.bikash.portfolio_backend.entity.Project;
+import com.bikash.portfolio_backend.entity.Skill;
+import com.bikash.portfolio_backend.event.ProjectChangedEvent;
+import com.bikash.portfolio_backend.event.SkillChangedEvent;
+import com.bikash.portfolio_backend.repository.ProjectFilter;
+import com.bikash.portfolio_backend.repository.ProjectRepository;
+import com.bikash.portfolio_backend.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead over project titles, project technologies and skill names. Every
+ * word start of a suggestion is a key in an immutable array-based trie whose
+ * nodes carry their precomputed top suggestions, so a lookup is one walk down
+ * the query's characters. Technologies are reference counted across projects
+ * and rank by how many projects use them. Writes rebuild the trie from the
+ * maintained sources and swap it in; lookups never lock.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionIndex {
+
+    private static final Set<String> PROJECT_FIELDS = Set.of("title", "slug", "technologies");
+    private static final Set<String> SKILL_FIELDS = Set.of("name");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#.]+");
+
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+
+    @Value("${app.search.suggest-limit:8}")
+    private int suggestLimit;
+
+    private final Map<SourceKey, Source> sources = new HashMap<>();
+    private volatile Trie trie;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Suggestion index not built at startup, will retry on first request: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (trie == null) {
+            return;
+        }
+        if (event.isReload()) {
+            rebuild();
+            return;
+        }
+        if (event.getBefore() != null) {
+            addProject(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            addProject(event.getAfter(), 1);
+        }
+        trie = Trie.build(sources.values(), suggestLimit);
+    }
+
+    @EventListener
+    public synchronized void onSkillChanged(SkillChangedEvent event) {
+        if (trie == null) {
+            return;
+        }
+        if (event.isReload()) {
+            rebuild();
+            return;
+        }
+        if (event.getBefore() != null) {
+            addSkill(event.getBefore().getId(), event.getBefore().getName(), -1);
+        }
+        if (event.getAfter() != null) {
+            addSkill(event.getAfter().getId(), event.getAfter().getName(), 1);
+        }
+        trie = Trie.build(sources.values(), suggestLimit);
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions, capped at the configured limit,
+     * whose text has a word starting with {@code query}.
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        Trie current = trie;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current.lookup(normalize(query), Math.min(limit, suggestLimit));
+    }
+
+    private synchronized Trie rebuild() {
+        List<Project> projects = projectRepository.findList(ProjectFilter.builder().build(), PROJECT_FIELDS, Sort.unsorted());
+        List<Skill> skills = skillRepository.findAllOrderByCategoryAndName(SKILL_FIELDS);
+
+        sources.clear();
+        projects.forEach(project -> addProject(project, 1));
+        skills.forEach(skill -> addSkill(skill.getId(), skill.getName(), 1));
+        trie = Trie.build(sources.values(), suggestLimit);
+        log.info("Suggestion index built with {} suggestions", sources.size());
+        return trie;
+    }
+
+    private void addProject(Project project, int delta) {
+        adjust(new SourceKey(SuggestionDto.Type.PROJECT, project.getId()), project.getTitle(), project.getSlug(), delta);
+        if (project.getTechnologies() != null) {
+            project.getTechnologies().stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(technology -> !technology.isEmpty())
+                    .distinct()
+                    .forEach(technology -> adjust(new SourceKey(SuggestionDto.Type.TECHNOLOGY,
+                            technology.toLowerCase(Locale.ROOT)), technology, null, delta));
+        }
+    }
+
+    private void addSkill(String id, String name, int delta) {
+        adjust(new SourceKey(SuggestionDto.Type.SKILL, id), name, null, delta);
+    }
+
+    private void adjust(SourceKey key, String text, String slug, int delta) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        if (delta > 0) {
+            sources.computeIfAbsent(key, k -> new Source(new SuggestionDto(text, k.type(), slug))).count += delta;
+            return;
+        }
+        Source source = sources.get(key);
+        if (source != null && (source.count += delta) <= 0) {
+            sources.remove(key);
+        }
+    }
+
+    /**
+     * Lowercases and collapses everything but letters, digits and {@code + # .}
+     * into single spaces, so "Spring  Boot" and "spring-boot" share keys.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SEPARATORS.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record SourceKey(SuggestionDto.Type type, String id) {
+    }
+
+    private static final class Source {
+
+        private final SuggestionDto suggestion;
+        private int count;
+
+        private Source(SuggestionDto suggestion) {
+            this.suggestion = suggestion;
+        }
+
+        private double score() {
+            double boost = switch (suggestion.getType()) {
+                case PROJECT -> 3.0;
+                case SKILL -> 2.0;
+                case TECHNOLOGY -> 1.0;
+            };
+            return boost * count;
+        }
+    }
+
+    /**
+     * Suggestions are numbered by rank, so a node's top list is simply the
+     * smallest distinct numbers among its own keys and its children's lists.
+     */
+    private static final class Trie {
+
+        private static final Comparator<Source> BY_RANK = Comparator.comparingDouble(Source::score).reversed()
+                .thenComparingInt(source -> source.suggestion.getText().length())
+                .thenComparing(source -> source.suggestion.getText(), String.CASE_INSENSITIVE_ORDER);
+
+        private final SuggestionDto[] suggestions;
+        private final Node root;
+
+        private Trie(SuggestionDto[] suggestions, Node root) {
+            this.suggestions = suggestions;
+            this.root = root;
+        }
+
+        static Trie build(Iterable<Source> sources, int topK) {
+            List<Source> ranked = new ArrayList<>();
+            sources.forEach(ranked::add);
+            ranked.sort(BY_RANK);
+
+            SuggestionDto[] suggestions = new SuggestionDto[ranked.size()];
+            BuildNode root = new BuildNode();
+            for (int rank = 0; rank < ranked.size(); rank++) {
+                suggestions[rank] = ranked.get(rank).suggestion;
+                String key = normalize(suggestions[rank].getText());
+                for (int start = 0; start < key.length(); start++) {
+                    if (start == 0 || key.charAt(start - 1) == ' ') {
+                        root.insert(key, start, rank);
+                    }
+                }
+            }
+            return new Trie(suggestions, root.freeze(topK));
+        }
+
+        List<SuggestionDto> lookup(String prefix, int limit) {
+            if (prefix.isEmpty() || limit < 1) {
+                return List.of();
+            }
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<SuggestionDto> result = new ArrayList<>(Math.min(limit, node.top.length));
+            for (int i = 0; i < node.top.length && i < limit; i++) {
+                result.add(suggestions[node.top[i]]);
+            }
+            return result;
+        }
+    }
+
+    private record Node(char[] labels, Node[] children, int[] top) {
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final Set<Integer> ranks = new LinkedHashSet<>();
+
+        void insert(String key, int start, int rank) {
+            BuildNode node = this;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.ranks.add(rank);
+        }
+
+        Node freeze(int topK) {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            List<Integer> candidates = new ArrayList<>(ranks);
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                labels[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze(topK);
+                for (int rank : frozen[i].top()) {
+                    candidates.add(rank);
+                }
+                i++;
+            }
+            int[] top = candidates.stream().mapToInt(Integer::intValue).sorted().distinct().limit(topK).toArray();
+            return new Node(labels, frozen, top);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.bikash.portfolio_backend.repository;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the claim and completion queries the outbox relies on for lease
+ * handling, against a mocked {@link MongoTemplate}.
+ */
+class EmailOutboxRepositoryImplTest {
+
+    private MongoTemplate mongoTemplate;
+    private EmailOutboxRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new EmailOutboxRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void claimDueTakesDuePendingMessagesAndExpiredLeases() {
+        EmailOutboxMessage due = EmailOutboxMessage.builder().id("1").build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(EmailOutboxMessage.class))).thenReturn(due, (EmailOutboxMessage) null);
+
+        LocalDateTime before = LocalDateTime.now();
+        List<EmailOutboxMessage> claimed = repository.claimDue(5, Duration.ofSeconds(120));
+
+        assertThat(claimed).containsExactly(due);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+                eq(EmailOutboxMessage.class));
+
+        List<Document> branches = query.getValue().getQueryObject().getList("$or", Document.class);
+        assertThat(branches).hasSize(2);
+        assertThat(branches.get(0).get("status")).isEqualTo(EmailOutboxMessage.Status.PENDING);
+        assertThat(branches.get(0).get("nextAttemptAt", Document.class)).containsKey("$lte");
+        assertThat(branches.get(1).get("status")).isEqualTo(EmailOutboxMessage.Status.SENDING);
+        assertThat(branches.get(1).get("lockedUntil", Document.class)).containsKey("$lte");
+
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set.get("status")).isEqualTo(EmailOutboxMessage.Status.SENDING);
+        assertThat((LocalDateTime) set.get("lockedUntil")).isAfterOrEqualTo(before.plusSeconds(120));
+        assertThat(update.getValue().getUpdateObject().get("$inc", Document.class).get("attempts")).isEqualTo(1);
+    }
+
+    @Test
+    void claimDueStopsAtLimit() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(EmailOutboxMessage.class))).thenReturn(EmailOutboxMessage.builder().build());
+
+        assertThat(repository.claimDue(3, Duration.ofSeconds(120))).hasSize(3);
+        verify(mongoTemplate, times(3)).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(EmailOutboxMessage.class));
+    }
+
+    @Test
+    void completionOnlyAppliesToMessagesStillClaimed() {
+        repository.markSent("1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(EmailOutboxMessage.class));
+        assertThat(query.getValue().getQueryObject().get("status")).isEqualTo(EmailOutboxMessage.Status.SENDING);
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set.get("status")).isEqualTo(EmailOutboxMessage.Status.SENT);
+        assertThat(set).containsKey("sentAt");
+    }
+}
@@ -0,0 +1,258 @@
+package com.bikash.portfolio_backend.service;
+
+import com.bikash.portfolio_backend.entity.EmailOutboxMessage;
+import com.bikash.portfolio_backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the dispatcher and the SMTP pool against a local SMTP stand-in, with the
+ * outbox repository mocked. Recipients starting with {@code reject} are refused
+ * by the stand-in.
+ */
+class EmailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BASE_SECONDS = 30;
+    private static final long RETRY_MAX_SECONDS = 600;
+
+    private SmtpStandIn smtp;
+    private SmtpTransportPool smtpTransportPool;
+    private EmailOutboxRepository emailOutboxRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new SmtpStandIn();
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+        smtpTransportPool = new SmtpTransportPool(mailSender, 2);
+        ReflectionTestUtils.setField(smtpTransportPool, "idleTimeoutMillis", 30_000L);
+        ReflectionTestUtils.setField(smtpTransportPool, "validateAfterIdleMillis", 2_000L);
+        ReflectionTestUtils.setField(smtpTransportPool, "maxMessagesPerConnection", 100);
+
+        EmailService emailService = mock(EmailService.class);
+        when(emailService.createMimeMessage(any())).thenAnswer(invocation -> {
+            EmailOutboxMessage outboxMessage = invocation.getArgument(0);
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+            helper.setFrom("noreply@example.com");
+            helper.setTo(outboxMessage.getRecipient());
+            helper.setSubject(outboxMessage.getType().name());
+            helper.setText("<p>" + outboxMessage.getType() + "</p>", true);
+            return message;
+        });
+
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, emailService, smtpTransportPool, meterRegistry, 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 20);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseSeconds", RETRY_BASE_SECONDS);
+        ReflectionTestUtils.setField(dispatcher, "retryMaxSeconds", RETRY_MAX_SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dispatcher.stop();
+        smtpTransportPool.close();
+        smtp.close();
+    }
+
+    @Test
+    void sendsClaimedMessagesAndMarksThemSent() {
+        claims(message("1", "first@example.com", 1), message("2", "second@example.com", 1));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markSent("1");
+        verify(emailOutboxRepository).markSent("2");
+        verify(emailOutboxRepository, never()).reschedule(anyString(), anyString(), any());
+        assertThat(smtp.recipients()).containsExactlyInAnyOrder("first@example.com", "second@example.com");
+    }
+
+    @Test
+    void failedSendIsRescheduledWithExponentialBackoff() {
+        claims(message("1", "reject@example.com", 2));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).reschedule(eq("1"), anyString(), nextAttemptAt.capture());
+        Duration backoff = Duration.ofSeconds(RETRY_BASE_SECONDS * 2);
+        assertThat(nextAttemptAt.getValue()).isBetween(before.plus(backoff), after.plus(backoff));
+        verify(emailOutboxRepository, never()).markSent(anyString());
+        verify(emailOutboxRepository, never()).markDead(anyString(), anyString());
+    }
+
+    @Test
+    void backoffIsCappedAtRetryMax() {
+        claims(message("1", "reject@example.com", MAX_ATTEMPTS - 1));
+        ReflectionTestUtils.setField(dispatcher, "retryMaxSeconds", RETRY_BASE_SECONDS);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).reschedule(eq("1"), anyString(), nextAttemptAt.capture());
+        Duration backoff = Duration.ofSeconds(RETRY_BASE_SECONDS);
+        assertThat(nextAttemptAt.getValue()).isBetween(before.plus(backoff), after.plus(backoff));
+    }
+
+    @Test
+    void failedSendIsDeadLetteredOnceAttemptsAreUsedUp() {
+        claims(message("1", "reject@example.com", MAX_ATTEMPTS));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markDead(eq("1"), anyString());
+        verify(emailOutboxRepository, never()).reschedule(anyString(), anyString(), any());
+        assertThat(meterRegistry.get("mail.outbox.dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void reclaimedMessageIsSentAgain() {
+        // A claim whose lease ran out comes back from claimDue with its attempt counted again
+        claims(message("1", "first@example.com", 2));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markSent("1");
+        assertThat(smtp.recipients()).containsExactly("first@example.com");
+    }
+
+    private void claims(EmailOutboxMessage... messages) {
+        when(emailOutboxRepository.claimDue(anyInt(), any())).thenReturn(List.of(messages), List.of());
+    }
+
+    private static EmailOutboxMessage message(String id, String recipient, int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(id)
+                .type(EmailOutboxMessage.Type.CONTACT_NOTIFICATION)
+                .recipient(recipient)
+                .status(EmailOutboxMessage.Status.SENDING)
+                .attempts(attempts)
+                .build();
+    }
+
+    /** Just enough SMTP to accept or refuse a message; records accepted recipients. */
+    private static final class SmtpStandIn implements AutoCloseable {
+
+        private final ServerSocket server;
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+        SmtpStandIn() throws IOException {
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "smtp-stand-in");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        List<String> recipients() {
+            return recipients;
+        }
+
+        private void accept() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread session = new Thread(() -> serve(socket), "smtp-stand-in-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost ESMTP stand-in");
+                List<String> accepted = new CopyOnWriteArrayList<>();
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("RCPT")) {
+                        String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                        if (address.startsWith("reject")) {
+                            reply(out, "550 5.1.1 No such user");
+                        } else {
+                            accepted.add(address);
+                            reply(out, "250 OK");
+                        }
+                    } else if (command.startsWith("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        for (String data = in.readLine(); data != null && !data.equals("."); data = in.readLine()) {
+                            // message body is not inspected
+                        }
+                        recipients.addAll(accepted);
+                        accepted.clear();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("RSET") || command.startsWith("MAIL")) {
+                        accepted.clear();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // client went away
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.bikash.portfolio_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares precompiled rendering with Thymeleaf rendering the same template
+ * from {@code src/main/resources/templates}.
+ */
+class EmailTemplateRendererTest {
+
+    private TemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine);
+    }
+
+    @Test
+    void rendersLikeThymeleaf() {
+        Map<String, String> values = Map.of("name", "Ada", "email", "ada@example.com", "subject", "Hello");
+
+        assertThat(renderer.render(EmailTemplateRenderer.Template.CONTACT_NOTIFICATION, values))
+                .isEqualTo(thymeleaf("contact-notification", values));
+    }
+
+    @Test
+    void escapesValuesInTextAndAttributes() {
+        Map<String, String> text = Map.of("name", "<b>Ada</b> & \"Bob\"", "email", "a@b.c", "subject", "x'y");
+        String html = renderer.render(EmailTemplateRenderer.Template.CONTACT_NOTIFICATION, text);
+        assertThat(html).contains("&lt;b&gt;Ada&lt;/b&gt; &amp; &quot;Bob&quot;").doesNotContain("<b>Ada</b>");
+
+        Map<String, String> attribute = Map.of("resetUrl", "https://example.com/reset?token=a\"b&c=<d>");
+        assertThat(renderer.render(EmailTemplateRenderer.Template.PASSWORD_RESET, attribute))
+                .contains("https://example.com/reset?token=a&quot;b&amp;c=&lt;d&gt;")
+                .doesNotContain("a\"b");
+    }
+
+    @Test
+    void missingValuesRenderEmpty() {
+        String html = renderer.render(EmailTemplateRenderer.Template.CONTACT_NOTIFICATION, Map.of());
+
+        assertThat(html).isEqualTo(thymeleaf("contact-notification", Map.of("name", "", "email", "", "subject", "")));
+    }
+
+    @Test
+    void rendersRowsInOrderWithoutEscapingThemTwice() {
+        List<Map<String, String>> rows = List.of(
+                Map.of("receivedAt", "2026-01-01 10:00", "name", "A & B", "email", "a@example.com", "subject", "first"),
+                Map.of("receivedAt", "2026-01-01 11:00", "name", "C", "email", "c@example.com", "subject", "second"));
+
+        String html = renderer.renderList(EmailTemplateRenderer.Template.CONTACT_DIGEST, Map.of("count", "2"),
+                EmailTemplateRenderer.Template.CONTACT_DIGEST_ROW, rows);
+
+        String firstRow = thymeleaf("contact-digest-row", rows.get(0));
+        String secondRow = thymeleaf("contact-digest-row", rows.get(1));
+        assertThat(html).contains(firstRow + secondRow).contains("A &amp; B").doesNotContain("&amp;amp;");
+    }
+
+    @Test
+    void failsWhenATemplateDoesNotOutputAVariable() {
+        TemplateEngine broken = mock(TemplateEngine.class);
+        when(broken.process(anyString(), any(IContext.class))).thenReturn("<p>no variables here</p>");
+
+        assertThatThrownBy(() -> new EmailTemplateRenderer(broken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("email-verification")
+                .hasMessageContaining("verificationUrl");
+    }
+
+    private String thymeleaf(String template, Map<String, ?> values) {
+        Context context = new Context();
+        values.forEach(context::setVariable);
+        return templateEngine.process(template, context);
+    }
+}